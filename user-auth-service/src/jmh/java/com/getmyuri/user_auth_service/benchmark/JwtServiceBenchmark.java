@@ -0,0 +1,116 @@
+package com.getmyuri.user_auth_service.benchmark;
+
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.getmyuri.user_auth_service.config.JwtSigningProperties;
+import com.getmyuri.user_auth_service.model.auth.VerifiedClaims;
+import com.getmyuri.user_auth_service.service.JwtService;
+import com.getmyuri.user_auth_service.service.security.JwtKeyStore;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Single-threaded cost of issuing and verifying access tokens.
+ * {@link JwtServiceConcurrentBenchmark} runs the same methods on all cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET_KEY = "c2VjcmV0LWtleS11c2VkLW9ubHktYnktdGhlLWp3dC1iZW5jaG1hcmtzLTAwMDAwMA==";
+
+    @Param({ "HS256", "RS256", "ES256" })
+    public String algorithm;
+
+    @Param({ "1", "8", "32" })
+    public int claimCount;
+
+    @Param({ "1", "8", "64" })
+    public int authorityCount;
+
+    private JwtService jwtService;
+    private UserDetails user;
+    private Map<String, Object> claims;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setAlgorithm(algorithm);
+        SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.forName(algorithm);
+        if (!signatureAlgorithm.isHmac()) {
+            KeyPair keyPair = Keys.keyPairFor(signatureAlgorithm);
+            JwtSigningProperties.KeyPair configured = new JwtSigningProperties.KeyPair();
+            configured.setId("benchmark");
+            configured.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+            configured.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+            properties.setKeys(List.of(configured));
+            properties.setActiveKeyId(configured.getId());
+        }
+        jwtService = new JwtService(new JwtKeyStore(properties, SECRET_KEY));
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", TimeUnit.HOURS.toMillis(1));
+        jwtService.validateProperties();
+
+        user = User.withUsername("benchmark.user@getmyuri.com")
+                .password("unused")
+                .authorities(IntStream.range(0, authorityCount)
+                        .mapToObj(i -> "AUTHORITY_" + i)
+                        .toArray(String[]::new))
+                .build();
+        claims = new HashMap<>();
+        for (int i = 0; i < claimCount; i++) {
+            claims.put("claim" + i, "value-" + i);
+        }
+        token = jwtService.generateToken(new HashMap<>(claims), user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(new HashMap<>(claims), user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public VerifiedClaims verifyToken() {
+        return jwtService.verifyToken(token);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.getmyuri.user_auth_service.benchmark;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * The {@link JwtServiceBenchmark} methods with one thread per available core,
+ * sharing one JwtService as request threads do.
+ */
+@Threads(Threads.MAX)
+public class JwtServiceConcurrentBenchmark extends JwtServiceBenchmark {
+
+}
@@ -6,4 +6,8 @@ public final class Constants {
     }
 
     public static final String USER = "USER";
+    // Granted to gateway service accounts that call /auth/introspect
+    public static final String INTROSPECT = "INTROSPECT";
+    // Granted to operators allowed to read /actuator/metrics
+    public static final String ADMIN = "ADMIN";
 }
@@ -0,0 +1,123 @@
+package com.getmyuri.user_auth_service.common.util;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that adapts to observed latency. Samples are averaged over a
+ * short window, and each window is compared with a slow moving average of past
+ * windows (the latency the service has without queueing): while they agree the limit
+ * grows by about its square root, and once latency rises above 1.5 times the
+ * baseline the limit shrinks in proportion. A dropped request (overload or timeout)
+ * multiplies the limit by 0.9, the multiplicative-decrease step of AIMD.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int LONG_WINDOW = 600;
+    private static final int SAMPLE_WINDOW = 50;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Samples that arrive while another thread updates the estimate are skipped, not waited for.
+    private final ReentrantLock updateLock = new ReentrantLock();
+    // Drops are recorded here first so they survive a skipped sample; applied by the next update.
+    private final AtomicBoolean dropPending = new AtomicBoolean();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.estimatedLimit = limit;
+    }
+
+    /**
+     * Admits one request unless the current limit is reached. Every successful call
+     * must be paired with {@link #release(long, boolean)}.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos, boolean dropped) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        if (dropped) {
+            dropPending.set(true);
+        }
+        if (!updateLock.tryLock()) {
+            return;
+        }
+        try {
+            update(rttNanos, inFlightAtRelease);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void update(long rttNanos, int inFlightAtRelease) {
+        windowRttSum += Math.max(1, rttNanos);
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtRelease);
+        boolean anyDropped = dropPending.getAndSet(false);
+        if (windowSamples < SAMPLE_WINDOW && !anyDropped) {
+            return;
+        }
+        double shortRtt = (double) windowRttSum / windowSamples;
+        int maxInFlight = windowMaxInFlight;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+
+        double next;
+        if (anyDropped) {
+            next = estimatedLimit * BACKOFF_RATIO;
+        } else {
+            if (longRttNanos == 0) {
+                longRttNanos = shortRtt;
+            } else {
+                longRttNanos += (shortRtt - longRttNanos) / LONG_WINDOW;
+            }
+            // Recover quickly when latency drops after a slow period.
+            if (longRttNanos / shortRtt > 2) {
+                longRttNanos *= 0.95;
+            }
+            // Don't grow while the service is not using half of what it already has.
+            if (maxInFlight < estimatedLimit / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRtt));
+            double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            next = estimatedLimit * (1 - SMOOTHING) + target * SMOOTHING;
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.getmyuri.user_auth_service.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over strings. {@link #mightContain(String)} never returns
+ * false for a value that was put; it may return true for values that were not.
+ */
+public final class BloomFilter {
+
+    // AtomicLongArray is int-indexed, which caps the filter at 2^31 words.
+    private static final long MAX_BITS = (long) Integer.MAX_VALUE * 64;
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+    }
+
+    /**
+     * Sizes the filter for the expected number of values at the given false positive probability.
+     *
+     * @throws IllegalArgumentException when the probability is not in (0, 1) or the filter would be too large
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+        if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1)) {
+            throw new IllegalArgumentException("False positive probability must be in (0, 1): "
+                    + falsePositiveProbability);
+        }
+        long n = Math.max(1, expectedInsertions);
+        double bitsNeeded = Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        if (bitsNeeded > MAX_BITS) {
+            throw new IllegalArgumentException("A Bloom filter for " + n + " values at " + falsePositiveProbability
+                    + " needs " + (long) bitsNeeded + " bits, more than the supported " + MAX_BITS);
+        }
+        long m = Math.max(64, (long) bitsNeeded);
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(m, k);
+    }
+
+    /**
+     * @return true if this set a bit, i.e. the value was certainly not in the filter before
+     */
+    public boolean put(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1);
+        boolean changed = false;
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0) {
+                if (bits.compareAndSet(word, current, current | mask)) {
+                    changed = true;
+                    break;
+                }
+                current = bits.get(word);
+            }
+        }
+        return changed;
+    }
+
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 64-bit double hashing, so every bit of filters beyond 2^31 bits is reachable.
+    private long index(long combinedHash) {
+        return Math.floorMod(combinedHash, bitCount);
+    }
+
+    // FNV-1a over the UTF-16 chars followed by the SplitMix64 finalizer.
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.getmyuri.user_auth_service.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generic cell rate algorithm: a token bucket of {@code limit} requests per
+ * {@code period} whose whole state is one theoretical arrival time per key, updated
+ * with compare-and-set. Times are {@link System#nanoTime()} values.
+ */
+public final class Gcra {
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+
+    public Gcra(int limit, Duration period) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        this.emissionIntervalNanos = period.toNanos() / limit;
+        this.toleranceNanos = emissionIntervalNanos * (limit - 1);
+    }
+
+    /**
+     * State for a new key, starting with a full bucket.
+     */
+    public AtomicLong newState(long nowNanos) {
+        return new AtomicLong(nowNanos);
+    }
+
+    public boolean tryAcquire(AtomicLong theoreticalArrival, long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long tat = current - nowNanos < 0 ? nowNanos : current;
+            if (tat - nowNanos > toleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(current, tat + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+}
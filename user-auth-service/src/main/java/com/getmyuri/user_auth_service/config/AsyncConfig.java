@@ -0,0 +1,171 @@
+package com.getmyuri.user_auth_service.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Named, bounded executors per workload. {@code applicationTaskExecutor} is the default
+ * for {@code @Async} and Spring MVC async requests; the others are selected with
+ * {@code @Async("mailExecutor")} etc. Every executor publishes queue depth, active
+ * threads, task latency and rejections tagged with its name.
+ * <p>
+ * With {@code spring.threads.virtual.enabled=true} on Java 21+, executors whose
+ * {@code virtual-threads} flag is set run each task on a new virtual thread, bounded by
+ * a concurrency limit of {@code max-size + queue-capacity} instead of a queue. Workloads that block
+ * inside {@code synchronized} code (JavaMail's SMTP transport) should keep the flag off
+ * so they do not pin carrier threads.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(AsyncExecutorProperties.class)
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String DEFAULT = "default";
+    public static final String MAIL = "mail";
+    public static final String INTROSPECTION = "introspection";
+
+    private final AsyncExecutorProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    @Bean
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return createExecutor(DEFAULT);
+    }
+
+    @Bean
+    public AsyncTaskExecutor mailExecutor() {
+        return createExecutor(MAIL);
+    }
+
+    @Bean
+    public AsyncTaskExecutor introspectionExecutor() {
+        return createExecutor(INTROSPECTION);
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return applicationTaskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        Counter errors = meterRegistry.counter("executor.uncaught.errors");
+        return (ex, method, params) -> {
+            errors.increment();
+            log.error("Uncaught exception in async method {}.{}", method.getDeclaringClass().getSimpleName(),
+                    method.getName(), ex);
+        };
+    }
+
+    private AsyncTaskExecutor createExecutor(String name) {
+        AsyncExecutorProperties.Pool pool = properties.get(name);
+        if (pool.isVirtualThreads() && Threading.VIRTUAL.isActive(environment)) {
+            return createVirtualExecutor(name, pool);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(Math.max(pool.getCoreSize(), pool.getMaxSize()));
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setKeepAliveSeconds(pool.getKeepAliveSeconds());
+        executor.setThreadNamePrefix(name + "-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setRejectedExecutionHandler(countingRejections(name, pool.getOverflowPolicy()));
+        executor.setTaskDecorator(timingDecorator(name, null));
+
+        Gauge.builder("executor.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("executor.active.threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("name", name)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    // Admits as many tasks as the platform pool would hold (threads plus queue); further
+    // submitters block until one finishes, so there is no queue to overflow.
+    private AsyncTaskExecutor createVirtualExecutor(String name, AsyncExecutorProperties.Pool pool) {
+        AtomicInteger active = new AtomicInteger();
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(Math.max(1, pool.getMaxSize() + pool.getQueueCapacity()));
+        executor.setTaskTerminationTimeout(30_000);
+        executor.setTaskDecorator(timingDecorator(name, active));
+
+        Gauge.builder("executor.active.threads", active, AtomicInteger::get)
+                .tag("name", name)
+                .register(meterRegistry);
+        log.info("Executor '{}' runs on virtual threads (concurrency limit {})", name,
+                executor.getConcurrencyLimit());
+        return executor;
+    }
+
+    private TaskDecorator timingDecorator(String name, AtomicInteger active) {
+        Timer latency = Timer.builder("executor.task.latency")
+                .description("Time from submission to completion of a task")
+                .tag("name", name)
+                .register(meterRegistry);
+        return task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                if (active != null) {
+                    active.incrementAndGet();
+                }
+                try {
+                    task.run();
+                } finally {
+                    if (active != null) {
+                        active.decrementAndGet();
+                    }
+                    latency.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+
+    private RejectedExecutionHandler countingRejections(String name, AsyncExecutorProperties.OverflowPolicy policy) {
+        RejectedExecutionHandler delegate = switch (policy) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+        Counter rejected = meterRegistry.counter("executor.task.rejected", "name", name,
+                "policy", policy.name());
+        return (task, executor) -> {
+            rejected.increment();
+            if (policy != AsyncExecutorProperties.OverflowPolicy.CALLER_RUNS) {
+                log.warn("Executor '{}' is saturated, applying {} overflow policy", name, policy);
+            }
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+
+}
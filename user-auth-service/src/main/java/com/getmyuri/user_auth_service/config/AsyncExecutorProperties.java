@@ -0,0 +1,47 @@
+package com.getmyuri.user_auth_service.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "application.async")
+public class AsyncExecutorProperties {
+
+    /**
+     * Executor settings by workload name (default, mail, introspection).
+     */
+    private Map<String, Pool> executors = new LinkedHashMap<>();
+
+    public Pool get(String name) {
+        return executors.getOrDefault(name, new Pool());
+    }
+
+    @Data
+    public static class Pool {
+
+        private int coreSize = 2;
+        private int maxSize = 2;
+        private int queueCapacity = 100;
+        private int keepAliveSeconds = 60;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.CALLER_RUNS;
+        /**
+         * Run on virtual threads when spring.threads.virtual.enabled is set; ignored otherwise.
+         */
+        private boolean virtualThreads = true;
+    }
+
+    /**
+     * What happens to a task submitted while the queue is full and every thread is busy.
+     */
+    public enum OverflowPolicy {
+        ABORT,
+        CALLER_RUNS,
+        DISCARD,
+        DISCARD_OLDEST
+    }
+
+}
@@ -1,29 +1,46 @@
 package com.getmyuri.user_auth_service.config;
 
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.getmyuri.user_auth_service.service.security.OffloadingPasswordEncoder;
+import com.getmyuri.user_auth_service.service.security.PasswordHashCalibrator;
+import com.getmyuri.user_auth_service.service.security.PasswordHashingExecutor;
+
 @Configuration
 public class BeansConfig {
 
+    private static final String BCRYPT = "bcrypt";
+    private static final String ARGON2 = "argon2";
+
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
 
-    public BeansConfig(UserDetailsService userDetailsService) {
+    public BeansConfig(UserDetailsService userDetailsService, UserDetailsPasswordService userDetailsPasswordService) {
         this.userDetailsService = userDetailsService;
+        this.userDetailsPasswordService = userDetailsPasswordService;
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder((passwordEncoder()));
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // Rehashes with the current algorithm and cost after a successful login.
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
@@ -33,8 +50,32 @@ public class BeansConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor,
+            @Value("${application.security.password.algorithm:bcrypt}") String algorithm,
+            @Value("${application.security.password.calibrate:false}") boolean calibrate,
+            @Value("${application.security.password.target-millis:250}") long targetMillis,
+            @Value("${application.security.password.bcrypt.strength:10}") int bcryptStrength,
+            @Value("${application.security.password.argon2.salt-length:16}") int saltLength,
+            @Value("${application.security.password.argon2.hash-length:32}") int hashLength,
+            @Value("${application.security.password.argon2.parallelism:1}") int parallelism,
+            @Value("${application.security.password.argon2.memory-kib:19456}") int memoryKib,
+            @Value("${application.security.password.argon2.iterations:2}") int iterations) {
+        if (calibrate) {
+            if (BCRYPT.equals(algorithm)) {
+                bcryptStrength = PasswordHashCalibrator.bcryptStrength(targetMillis);
+            } else {
+                iterations = PasswordHashCalibrator.argon2Iterations(targetMillis, saltLength, hashLength,
+                        parallelism, memoryKib);
+            }
+        }
+        var bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        var encoders = Map.<String, PasswordEncoder>of(
+                BCRYPT, bcrypt,
+                ARGON2, new Argon2PasswordEncoder(saltLength, hashLength, parallelism, memoryKib, iterations));
+        var delegating = new DelegatingPasswordEncoder(algorithm, encoders);
+        // Hashes stored before the {id} prefix was introduced are plain BCrypt.
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new OffloadingPasswordEncoder(delegating, passwordHashingExecutor);
     }
 
 }
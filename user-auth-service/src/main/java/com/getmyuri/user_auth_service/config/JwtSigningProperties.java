@@ -0,0 +1,50 @@
+package com.getmyuri.user_auth_service.config;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "application.security.jwt.signing")
+public class JwtSigningProperties {
+
+    /**
+     * HS256 (shared secret-key), RS256 or ES256.
+     */
+    private String algorithm = "HS256";
+
+    /**
+     * Key used to sign new tokens. The other keys only verify tokens issued before a rotation.
+     */
+    private String activeKeyId;
+
+    private List<KeyPair> keys = new ArrayList<>();
+
+    /**
+     * With RS256/ES256, tokens without a kid are still accepted with the shared secret-key
+     * until this instant, e.g. 2025-06-01T00:00:00Z. Unset means never: only tokens signed
+     * with the configured keys are valid.
+     */
+    private Instant legacyHmacUntil;
+
+    @Data
+    public static class KeyPair {
+
+        private String id;
+
+        /**
+         * Base64 PKCS#8 (PEM armour optional). Only required for the active key.
+         */
+        private String privateKey;
+
+        /**
+         * Base64 X.509 SubjectPublicKeyInfo (PEM armour optional).
+         */
+        private String publicKey;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.getmyuri.user_auth_service.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.getmyuri.user_auth_service.service.email.PooledJavaMailSender;
+import com.getmyuri.user_auth_service.service.email.SmtpConnectionPool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfig {
+
+    // Replaces Spring Boot's JavaMailSenderImpl; spring.mail.* still applies.
+    @Bean
+    public PooledJavaMailSender mailSender(MailProperties properties, MeterRegistry meterRegistry,
+            @Value("${application.mailing.smtp-pool.max-connections:4}") int maxConnections,
+            @Value("${application.mailing.smtp-pool.max-messages-per-connection:100}") int maxMessagesPerConnection,
+            @Value("${application.mailing.smtp-pool.max-idle-seconds:60}") long maxIdleSeconds,
+            @Value("${application.mailing.smtp-pool.borrow-timeout-millis:10000}") long borrowTimeoutMillis) {
+        PooledJavaMailSender sender = new PooledJavaMailSender();
+        sender.setHost(properties.getHost());
+        if (properties.getPort() != null) {
+            sender.setPort(properties.getPort());
+        }
+        sender.setUsername(properties.getUsername());
+        sender.setPassword(properties.getPassword());
+        sender.setProtocol(properties.getProtocol());
+        if (properties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(properties.getDefaultEncoding().name());
+        }
+        sender.getJavaMailProperties().putAll(properties.getProperties());
+        sender.setPool(new SmtpConnectionPool(sender::openTransport, maxConnections, maxMessagesPerConnection,
+                Duration.ofSeconds(maxIdleSeconds), Duration.ofMillis(borrowTimeoutMillis), meterRegistry));
+        return sender;
+    }
+
+}
@@ -1,24 +1,42 @@
 package com.getmyuri.user_auth_service.config;
 
-import com.getmyuri.user_auth_service.model.role.Role;
-import com.getmyuri.user_auth_service.repository.RoleRepository;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.getmyuri.user_auth_service.common.constants.Constants;
+import com.getmyuri.user_auth_service.model.role.Role;
+import com.getmyuri.user_auth_service.model.role.RolesChangedEvent;
+import com.getmyuri.user_auth_service.repository.RoleRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Configuration
 public class RoleInitializer {
 
     @Bean
-    public CommandLineRunner initializeRoles(RoleRepository roleRepository) {
+    public CommandLineRunner initializeRoles(RoleRepository roleRepository, ApplicationEventPublisher eventPublisher) {
         return args -> {
-            if (roleRepository.findByName("USER").isEmpty()) {
+            if (roleRepository.findByName(Constants.USER).isEmpty()) {
                 roleRepository.save(
-                        Role.builder().name("USER").build());
-                System.out.println("Role 'USER' initialized.");
+                        Role.builder().name(Constants.USER).build());
+                log.info("Role '{}' initialized", Constants.USER);
             } else {
-                System.out.println("Role 'USER' already exists.");
+                log.debug("Role '{}' already exists", Constants.USER);
+            }
+            if (roleRepository.findByName(Constants.INTROSPECT).isEmpty()) {
+                roleRepository.save(
+                        Role.builder().name(Constants.INTROSPECT).build());
+                log.info("Role '{}' initialized", Constants.INTROSPECT);
+            }
+            if (roleRepository.findByName(Constants.ADMIN).isEmpty()) {
+                roleRepository.save(
+                        Role.builder().name(Constants.ADMIN).build());
+                log.info("Role '{}' initialized", Constants.ADMIN);
             }
+            eventPublisher.publishEvent(new RolesChangedEvent());
         };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.getmyuri.user_auth_service.config;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Indexes that cannot be expressed with JPA {@code @Index} and are therefore not
+ * created by {@code ddl-auto}.
+ */
+@Configuration
+public class SchemaInitializer {
+
+    @Bean
+    public CommandLineRunner createFunctionalIndexes(JdbcTemplate jdbcTemplate) {
+        return args -> {
+            // Unique, since lookups and updates match on lower(email) and must hit one account.
+            // Fails on startup if existing rows differ only in case; those have to be merged first.
+            jdbcTemplate.execute(
+                    "create unique index if not exists idx_user_email_lower_unique on _user (lower(email))");
+            jdbcTemplate.execute("drop index if exists idx_user_email_lower");
+        };
+    }
+}
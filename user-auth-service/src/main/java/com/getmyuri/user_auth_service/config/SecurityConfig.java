@@ -1,7 +1,11 @@
 package com.getmyuri.user_auth_service.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.metrics.MetricsEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -25,23 +29,35 @@ public class SecurityConfig {
     private final JwtFilter jwtAuthFilter;
     private final AuthenticationProvider authenticationProvider;
 
+    // Role a gateway's bearer token must carry to call /auth/introspect (RFC 7662 section 2.1).
+    @Value("${application.security.introspection.required-authority:INTROSPECT}")
+    private String introspectionAuthority;
+
+    // Meters expose operational detail (throttle rejections, filter sizes), so not every user may read them.
+    @Value("${application.security.metrics.required-authority:ADMIN}")
+    private String metricsAuthority;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .cors(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
-                .authorizeHttpRequests(req -> req.requestMatchers(
-                        "/auth/**",
-                        "/v2/api-docs",
-                        "/v3/api-docs",
-                        "/v3/api-docs/**",
-                        "/swagger-resources",
-                        "/swagger-resources/**",
-                        "/configuration/ui",
-                        "/configuration/security",
-                        "/swagger-ui/**",
-                        "/webjars/**",
-                        "/swagger-ui/html").permitAll().anyRequest().authenticated()) // make everytime as if we dont
+                .authorizeHttpRequests(req -> req
+                        .requestMatchers(HttpMethod.POST, "/auth/introspect").hasAuthority(introspectionAuthority)
+                        .requestMatchers(EndpointRequest.to(MetricsEndpoint.class)).hasAuthority(metricsAuthority)
+                        .requestMatchers(
+                            "/auth/**",
+                            "/.well-known/jwks.json",
+                            "/v2/api-docs",
+                            "/v3/api-docs",
+                            "/v3/api-docs/**",
+                            "/swagger-resources",
+                            "/swagger-resources/**",
+                            "/configuration/ui",
+                            "/configuration/security",
+                            "/swagger-ui/**",
+                            "/webjars/**",
+                            "/swagger-ui/html").permitAll().anyRequest().authenticated()) // make everytime as if we dont
                                                                                       // know
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authenticationProvider)
@@ -0,0 +1,50 @@
+package com.getmyuri.user_auth_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.getmyuri.user_auth_service.common.util.AdaptiveConcurrencyLimit;
+import com.getmyuri.user_auth_service.handler.ConcurrencyLimitInterceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${application.security.concurrency-limit.enabled:true}")
+    private boolean concurrencyLimitEnabled;
+
+    @Value("${application.security.concurrency-limit.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${application.security.concurrency-limit.min-limit:4}")
+    private int minLimit;
+
+    @Value("${application.security.concurrency-limit.max-limit:200}")
+    private int maxLimit;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!concurrencyLimitEnabled) {
+            return;
+        }
+        // One limit per endpoint: each has its own cost profile (hashing, inserts, lookups, signatures).
+        limitConcurrency(registry, "register", "/auth/register");
+        limitConcurrency(registry, "authenticate", "/auth/authenticate");
+        limitConcurrency(registry, "activate-account", "/auth/activate-account");
+        limitConcurrency(registry, "introspect", "/auth/introspect");
+    }
+
+    private void limitConcurrency(InterceptorRegistry registry, String endpoint, String path) {
+        var limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit);
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(endpoint, limit, meterRegistry))
+                .addPathPatterns(path);
+    }
+
+}
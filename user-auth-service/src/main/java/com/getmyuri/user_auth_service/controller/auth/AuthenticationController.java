@@ -1,22 +1,34 @@
 package com.getmyuri.user_auth_service.controller.auth;
 
+import java.util.Locale;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.getmyuri.user_auth_service.common.util.Hashing;
 import com.getmyuri.user_auth_service.model.auth.AuthenticationRequest;
 import com.getmyuri.user_auth_service.model.auth.AuthenticationResponse;
+import com.getmyuri.user_auth_service.model.auth.EmailAvailabilityResponse;
+import com.getmyuri.user_auth_service.model.auth.IntrospectionRequest;
+import com.getmyuri.user_auth_service.model.auth.RefreshTokenRequest;
 import com.getmyuri.user_auth_service.model.auth.RegistrationRequest;
 import com.getmyuri.user_auth_service.service.auth.AuthenticationService;
+import com.getmyuri.user_auth_service.service.auth.IdempotencyService;
+import com.getmyuri.user_auth_service.service.security.TokenIntrospectionService;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.mail.MessagingException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -26,23 +38,73 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Authentication")
 public class AuthenticationController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     private final AuthenticationService authService;
+    private final TokenIntrospectionService introspectionService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/register")
     @ResponseStatus(HttpStatus.ACCEPTED)
-    public ResponseEntity<?> postMethodName(@RequestBody @Valid RegistrationRequest request) throws MessagingException {
-        authService.register(request);
-        return ResponseEntity.accepted().build();
+    public ResponseEntity<?> postMethodName(@RequestBody @Valid RegistrationRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            authService.register(request);
+            return ResponseEntity.accepted().build();
+        }
+        var outcome = idempotencyService.execute("register", idempotencyKey, fingerprint(request),
+                HttpStatus.ACCEPTED.value(), recordKey -> authService.register(request, recordKey));
+        return ResponseEntity.status(outcome.getStatus())
+                .header(IDEMPOTENT_REPLAYED, String.valueOf(outcome.isReplayed()))
+                .build();
+    }
+
+    @GetMapping("/email-available")
+    public ResponseEntity<EmailAvailabilityResponse> emailAvailable(@RequestParam String email,
+            HttpServletRequest servletRequest) {
+        return ResponseEntity.ok(EmailAvailabilityResponse.builder()
+                .email(email)
+                .available(authService.isEmailAvailable(email, servletRequest.getRemoteAddr()))
+                .build());
     }
 
     @PostMapping("/authenticate")
-    public ResponseEntity<AuthenticationResponse> postMethodName(@RequestBody @Valid AuthenticationRequest request) {
-        return ResponseEntity.ok(authService.authenticate(request));
+    public ResponseEntity<AuthenticationResponse> postMethodName(@RequestBody @Valid AuthenticationRequest request,
+            HttpServletRequest servletRequest) {
+        return ResponseEntity.ok(authService.authenticate(request, servletRequest.getRemoteAddr()));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthenticationResponse> refresh(@RequestBody @Valid RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authHeader,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+        String accessToken = authHeader != null && authHeader.startsWith("Bearer ") ? authHeader.substring(7) : null;
+        authService.logout(accessToken, request == null ? null : request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/introspect")
+    public ResponseEntity<StreamingResponseBody> introspect(@RequestBody @Valid IntrospectionRequest request) {
+        introspectionService.checkBatchSize(request.getTokens());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> introspectionService.introspect(request.getTokens(), out));
     }
 
     @GetMapping("/activate-account")
-    public void confirm(@RequestParam String token, @RequestParam String email) throws MessagingException {
+    public void confirm(@RequestParam String token, @RequestParam String email) {
         authService.activateAccount(token, email);
     }
 
+    // The password is left out so its digest is never stored.
+    private static String fingerprint(RegistrationRequest request) {
+        return Hashing.sha256(String.join("\n", request.getEmail().toLowerCase(Locale.ROOT),
+                request.getFirstname(), request.getLastname()));
+    }
+
 }
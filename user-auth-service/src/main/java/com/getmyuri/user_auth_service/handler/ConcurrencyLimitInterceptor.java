@@ -0,0 +1,68 @@
+package com.getmyuri.user_auth_service.handler;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.getmyuri.user_auth_service.common.util.AdaptiveConcurrencyLimit;
+import com.getmyuri.user_auth_service.model.exception.BusinessErrorCodes;
+import com.getmyuri.user_auth_service.model.exception.BusinessException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Admits requests to one endpoint up to its adaptive concurrency limit and rejects
+ * the rest immediately with {@link BusinessErrorCodes#ENDPOINT_OVERLOADED}. Each
+ * completed request feeds its latency back into the limit.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_AT = ConcurrencyLimitInterceptor.class.getName() + ".startedAt";
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final Counter rejected;
+
+    public ConcurrencyLimitInterceptor(String endpoint, AdaptiveConcurrencyLimit limit, MeterRegistry meterRegistry) {
+        this.limit = limit;
+        this.rejected = meterRegistry.counter("http.concurrency.rejected", "endpoint", endpoint);
+        Gauge.builder("http.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Already admitted on the initial dispatch of an async (streaming) request.
+        if (request.getAttribute(STARTED_AT) != null) {
+            return true;
+        }
+        if (!limit.tryAcquire()) {
+            rejected.increment();
+            throw new BusinessException(BusinessErrorCodes.ENDPOINT_OVERLOADED);
+        }
+        request.setAttribute(STARTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (!(request.getAttribute(STARTED_AT) instanceof Long startedAt)) {
+            return;
+        }
+        request.removeAttribute(STARTED_AT);
+        // Only overload and timeouts signal congestion (ENDPOINT_OVERLOADED, PASSWORD_HASHING_OVERLOADED
+        // and similar map to 503); other errors say nothing about capacity.
+        int status = response.getStatus();
+        boolean dropped = status == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || status == HttpStatus.GATEWAY_TIMEOUT.value();
+        limit.release(System.nanoTime() - startedAt, dropped);
+    }
+
+}
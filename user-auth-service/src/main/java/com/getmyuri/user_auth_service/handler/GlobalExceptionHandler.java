@@ -19,6 +19,7 @@ import static com.getmyuri.user_auth_service.model.exception.BusinessErrorCodes.
 import static com.getmyuri.user_auth_service.model.exception.BusinessErrorCodes.ACCOUNT_LOCKED;
 import static com.getmyuri.user_auth_service.model.exception.BusinessErrorCodes.BAD_CREDENTIALS;
 
+import com.getmyuri.user_auth_service.model.exception.BusinessException;
 import com.getmyuri.user_auth_service.model.exception.ExceptionResponse;
 
 import jakarta.mail.MessagingException;
@@ -68,6 +69,20 @@ public class GlobalExceptionHandler {
                 );
     }
 
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ExceptionResponse> handleException(BusinessException exp) {
+        return ResponseEntity
+                .status(exp.getErrorCode().getHttpsStatus())
+                .body(
+                        ExceptionResponse.builder()
+                                .businessErrorCode(exp.getErrorCode().getCode())
+                                .businessErrorDescription(exp.getErrorCode().getDescription())
+                                .error(exp.getMessage())
+                                .build()
+
+                );
+    }
+
     @ExceptionHandler(MessagingException.class)
     public ResponseEntity<ExceptionResponse> handleException(MessagingException exp) {
         return ResponseEntity
@@ -0,0 +1,13 @@
+package com.getmyuri.user_auth_service.model.auth;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class EmailAvailabilityResponse {
+
+    private String email;
+    private boolean available;
+
+}
@@ -0,0 +1,24 @@
+package com.getmyuri.user_auth_service.model.auth;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class IntrospectionRequest {
+
+    // Hard upper bound; application.security.introspection.max-batch-size may lower it.
+    @NotEmpty(message = "At least one token is mandatory")
+    @Size(max = 1000, message = "At most 1000 tokens can be introspected at once")
+    private List<@NotBlank(message = "Tokens must not be blank") String> tokens;
+
+}
@@ -0,0 +1,27 @@
+package com.getmyuri.user_auth_service.model.auth;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IntrospectionResult {
+
+    private static final IntrospectionResult INACTIVE = IntrospectionResult.builder().active(false).build();
+
+    boolean active;
+    String subject;
+    List<String> authorities;
+    // seconds since the epoch, as in the exp claim
+    Long expiresAt;
+
+    public static IntrospectionResult inactive() {
+        return INACTIVE;
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.getmyuri.user_auth_service.model.auth;
+
+import java.security.Principal;
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import lombok.Value;
+
+/**
+ * Principal built only from verified token claims, used when the user is not
+ * loaded from the database on each request.
+ */
+@Value
+public class TokenPrincipal implements Principal {
+
+    String email;
+    String fullName;
+    Collection<? extends GrantedAuthority> authorities;
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+}
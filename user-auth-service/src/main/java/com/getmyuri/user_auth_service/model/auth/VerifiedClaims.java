@@ -0,0 +1,27 @@
+package com.getmyuri.user_auth_service.model.auth;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Claims of a JWT whose signature and expiry have already been verified.
+ */
+@Value
+@Builder
+public class VerifiedClaims {
+
+    String tokenId;
+    String subject;
+    Instant issuedAt;
+    Instant expiresAt;
+    List<String> authorities;
+    String fullName;
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.getmyuri.user_auth_service.model.email;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Email written in the same transaction as the data it is about and sent later by
+ * the outbox dispatcher.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(columnList = "status, nextAttemptAt"),
+        @Index(columnList = "status, createdAt")
+})
+public class EmailOutboxMessage {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    private String recipient;
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    private EmailTemplateName template;
+
+    private String confirmationUrl;
+    private String activationCode;
+    private String subject;
+
+    @Enumerated(EnumType.STRING)
+    private EmailOutboxStatus status;
+
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    // A SENDING row whose lease has passed is claimed again (dispatcher died mid-send).
+    private LocalDateTime lockedUntil;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+
+}
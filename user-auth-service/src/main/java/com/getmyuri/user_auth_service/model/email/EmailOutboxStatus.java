@@ -0,0 +1,10 @@
+package com.getmyuri.user_auth_service.model.email;
+
+public enum EmailOutboxStatus {
+
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+
+}
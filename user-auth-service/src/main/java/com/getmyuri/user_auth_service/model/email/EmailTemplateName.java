@@ -1,16 +1,26 @@
 package com.getmyuri.user_auth_service.model.email;
 
+import static com.getmyuri.user_auth_service.common.constants.EmailConstants.ACTIVATION_CODE;
+import static com.getmyuri.user_auth_service.common.constants.EmailConstants.CONFIRMATION_URL;
+import static com.getmyuri.user_auth_service.common.constants.EmailConstants.USERNAME;
+
+import java.util.List;
+
 import lombok.Getter;
 
 @Getter
 public enum EmailTemplateName {
 
-    ACTIVATE_ACCOUNT("activate_account");
+    ACTIVATE_ACCOUNT("activate_account", USERNAME, CONFIRMATION_URL, ACTIVATION_CODE);
 
     private final String name;
 
-     EmailTemplateName(String name) {
+    // Variables the template reads; each is rendered as escaped text.
+    private final List<String> variables;
+
+     EmailTemplateName(String name, String... variables) {
         this.name = name;
+        this.variables = List.of(variables);
     }
 
     
@@ -13,7 +13,19 @@ public enum BusinessErrorCodes {
     NEW_PASSWORD_DOES_NOT_MATCH(301, BAD_REQUEST, "The new password does not match"),
     ACCOUNT_LOCKED(302, FORBIDDEN, "User account is locked"),
     ACCOUNT_DISABLED(303, FORBIDDEN, "User account is disabled"),
-    BAD_CREDENTIALS(304, FORBIDDEN, "Login and /or password is incorrect");
+    BAD_CREDENTIALS(304, FORBIDDEN, "Login and /or password is incorrect"),
+    INVALID_REFRESH_TOKEN(305, UNAUTHORIZED, "Refresh token is invalid, expired or was already used"),
+    INTROSPECTION_BATCH_TOO_LARGE(306, BAD_REQUEST, "Too many tokens in one introspection request"),
+    PASSWORD_HASHING_OVERLOADED(307, SERVICE_UNAVAILABLE, "Too many concurrent logins, retry shortly"),
+    ACTIVATION_TOKEN_EXPIRED(308, BAD_REQUEST, "Activation token has expired. A new token is issued"),
+    TOO_MANY_LOGIN_ATTEMPTS(309, TOO_MANY_REQUESTS, "Too many login attempts, retry later"),
+    ENDPOINT_OVERLOADED(310, SERVICE_UNAVAILABLE, "Service is overloaded, retry shortly"),
+    EMAIL_ALREADY_REGISTERED(311, CONFLICT, "An account with this email already exists"),
+    IDEMPOTENCY_KEY_REUSED(312, UNPROCESSABLE_ENTITY, "Idempotency-Key was already used for a different request"),
+    INVALID_IDEMPOTENCY_KEY(313, BAD_REQUEST, "Idempotency-Key must be 1 to 200 characters"),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(314, CONFLICT, "A request with this Idempotency-Key is still in progress"),
+    INVALID_ACTIVATION_TOKEN(315, BAD_REQUEST, "Activation code or email is invalid"),
+    TOO_MANY_EMAIL_LOOKUPS(316, TOO_MANY_REQUESTS, "Too many email lookups, retry later");
 
     @Getter
     private final int code;
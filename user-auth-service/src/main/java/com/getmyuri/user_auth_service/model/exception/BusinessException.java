@@ -0,0 +1,20 @@
+package com.getmyuri.user_auth_service.model.exception;
+
+import lombok.Getter;
+
+@Getter
+public class BusinessException extends RuntimeException {
+
+    private final BusinessErrorCodes errorCode;
+
+    public BusinessException(BusinessErrorCodes errorCode) {
+        super(errorCode.getDescription());
+        this.errorCode = errorCode;
+    }
+
+    public BusinessException(BusinessErrorCodes errorCode, String message) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.getmyuri.user_auth_service.model.idempotency;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(indexes = @Index(columnList = "expiresAt"))
+public class IdempotencyRecord {
+
+    // operation and client key, e.g. "register:3f1c..."
+    @Id
+    private String idempotencyKey;
+
+    // SHA-256 of the request fields, to detect a key reused for a different request
+    private String fingerprint;
+
+    private int responseStatus;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+
+}
@@ -0,0 +1,24 @@
+package com.getmyuri.user_auth_service.model.role;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Canonical {@link GrantedAuthority} instances, one per role name, shared by every
+ * user instead of allocating new authorities per request.
+ */
+public final class Authorities {
+
+    private static final Map<String, GrantedAuthority> CANONICAL = new ConcurrentHashMap<>();
+
+    private Authorities() {
+    }
+
+    public static GrantedAuthority of(String roleName) {
+        return CANONICAL.computeIfAbsent(roleName, SimpleGrantedAuthority::new);
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.getmyuri.user_auth_service.model.role;
+
+/**
+ * Published after roles are created, renamed or removed so the role registry reloads.
+ */
+public class RolesChangedEvent {
+}
@@ -0,0 +1,54 @@
+package com.getmyuri.user_auth_service.model.user;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(columnList = "familyId"),
+        @Index(columnList = "expiresAt"),
+        @Index(columnList = "revokedAt")
+})
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue
+    private Integer id;
+
+    // Only the SHA-256 of the token is stored, the raw value is returned to the client once.
+    @Column(unique = true, nullable = false)
+    private String tokenHash;
+
+    // Every token rotated from the same login shares a family, revoked as a whole on reuse.
+    @Column(nullable = false)
+    private String familyId;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private LocalDateTime usedAt;
+    private LocalDateTime revokedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "userId", nullable = false)
+    private User user;
+
+}
@@ -0,0 +1,33 @@
+package com.getmyuri.user_auth_service.model.user;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(indexes = @Index(columnList = "expiresAt"))
+public class RevokedToken {
+
+    // jti claim of the revoked access token
+    @Id
+    private String tokenId;
+
+    private LocalDateTime revokedAt;
+
+    // Once the token itself has expired the entry is no longer needed.
+    private LocalDateTime expiresAt;
+
+}
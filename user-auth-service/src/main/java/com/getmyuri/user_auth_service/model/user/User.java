@@ -5,15 +5,15 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.getmyuri.user_auth_service.model.role.Authorities;
 import com.getmyuri.user_auth_service.model.role.Role;
 
 import jakarta.persistence.Column;
@@ -22,6 +22,7 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -36,7 +37,7 @@ import lombok.Setter;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "_user")
+@Table(name = "_user", indexes = @Index(columnList = "createdDate"))
 @EntityListeners(AuditingEntityListener.class)
 public class User implements UserDetails, Principal {
 
@@ -52,6 +53,15 @@ public class User implements UserDetails, Principal {
     private String password;
     private boolean accountLocked;
     private boolean enabled;
+    // Written in batches by LoginActivityTracker, never through this entity.
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime lastLoginAt;
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int failedLoginAttempts;
+    // Set after too many failed logins; the lock lifts by itself once this has passed.
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime lockedUntil;
 
     @ManyToMany(fetch = FetchType.EAGER)
     private List<Role> roles;
@@ -71,9 +81,9 @@ public class User implements UserDetails, Principal {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return this.roles.stream()
-                .map(r -> new SimpleGrantedAuthority(r.getName()))
-                .collect(Collectors.toList());
+        return roles.stream()
+                .map(r -> Authorities.of(r.getName()))
+                .toList();
     }
 
     @Override
@@ -93,7 +103,7 @@ public class User implements UserDetails, Principal {
 
     @Override
     public boolean isAccountNonLocked() {
-        return !accountLocked;
+        return !accountLocked && (lockedUntil == null || lockedUntil.isBefore(LocalDateTime.now()));
     }
 
     @Override
@@ -0,0 +1,23 @@
+package com.getmyuri.user_auth_service.model.user;
+
+import lombok.Value;
+
+/**
+ * Published when enabled, lock or role state of a user changes, so cached
+ * copies are dropped once the change is committed.
+ */
+@Value
+public class UserChangedEvent {
+
+    // null when every user is affected, e.g. after a role change
+    String email;
+
+    public static UserChangedEvent of(String email) {
+        return new UserChangedEvent(email);
+    }
+
+    public static UserChangedEvent allUsers() {
+        return new UserChangedEvent(null);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.getmyuri.user_auth_service.model.user;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+/**
+ * One row of the authentication lookup: the user's login fields joined with one of
+ * its role names ({@code null} when the user has no role).
+ */
+@Value
+public class UserCredentials {
+
+    Integer id;
+    String email;
+    String password;
+    String firstname;
+    String lastname;
+    boolean enabled;
+    boolean accountLocked;
+    LocalDateTime lockedUntil;
+    String roleName;
+
+}
@@ -0,0 +1,92 @@
+package com.getmyuri.user_auth_service.model.user;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.getmyuri.user_auth_service.model.role.Authorities;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable, detached copy of the fields of {@link User} needed to authenticate,
+ * safe to cache and share between threads.
+ */
+@Value
+@Builder(toBuilder = true)
+public class UserSnapshot implements UserDetails, Principal {
+
+    Integer id;
+    String email;
+    String password;
+    String firstname;
+    String lastname;
+    boolean enabled;
+    boolean accountLocked;
+    LocalDateTime lockedUntil;
+    List<GrantedAuthority> authorities;
+
+    /**
+     * Folds the per-role rows of a single user into one snapshot.
+     */
+    public static Optional<UserSnapshot> from(List<UserCredentials> rows) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        UserCredentials first = rows.get(0);
+        List<GrantedAuthority> authorities = rows.stream()
+                .map(UserCredentials::getRoleName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(Authorities::of)
+                .toList();
+        return Optional.of(UserSnapshot.builder()
+                .id(first.getId())
+                .email(first.getEmail())
+                .password(first.getPassword())
+                .firstname(first.getFirstname())
+                .lastname(first.getLastname())
+                .enabled(first.isEnabled())
+                .accountLocked(first.isAccountLocked())
+                .lockedUntil(first.getLockedUntil())
+                .authorities(authorities)
+                .build());
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    // Evaluated on every check, so a cached snapshot unlocks on time.
+    @Override
+    public boolean isAccountNonLocked() {
+        return !accountLocked && (lockedUntil == null || lockedUntil.isBefore(LocalDateTime.now()));
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    public String fullName() {
+        return firstname + " " + lastname;
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.getmyuri.user_auth_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.getmyuri.user_auth_service.model.email.EmailOutboxMessage;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    // SKIP LOCKED lets several dispatchers claim disjoint batches without waiting on each other.
+    @Query(value = """
+            select * from email_outbox
+            where (status = 'PENDING' and next_attempt_at <= :now)
+               or (status = 'SENDING' and locked_until < :now)
+            order by id
+            limit :batchSize
+            for update skip locked
+            """, nativeQuery = true)
+    List<EmailOutboxMessage> lockNextBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    @Query(value = """
+            select count(*) from email_outbox
+            where status in ('SENT', 'FAILED') and created_at < :cutoff
+            """, nativeQuery = true)
+    long countFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query(value = """
+            delete from email_outbox where id in (
+                select id from email_outbox
+                where status in ('SENT', 'FAILED') and created_at < :cutoff
+                order by created_at
+                limit :chunkSize
+                for update skip locked)
+            """, nativeQuery = true)
+    int deleteFinishedChunk(@Param("cutoff") LocalDateTime cutoff, @Param("chunkSize") int chunkSize);
+
+}
@@ -0,0 +1,41 @@
+package com.getmyuri.user_auth_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.getmyuri.user_auth_service.model.user.RefreshToken;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("update RefreshToken r set r.revokedAt = :now where r.familyId = :familyId and r.revokedAt is null")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    @Query("select count(r) from RefreshToken r where r.expiresAt < :cutoff or r.revokedAt < :cutoff")
+    long countFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // Used tokens stay until they expire, so replaying one still revokes its family.
+    @Modifying
+    @Query(value = """
+            delete from refresh_token where id in (
+                select id from refresh_token
+                where expires_at < :cutoff or revoked_at < :cutoff
+                limit :chunkSize
+                for update skip locked)
+            """, nativeQuery = true)
+    int deleteFinishedChunk(@Param("cutoff") LocalDateTime cutoff, @Param("chunkSize") int chunkSize);
+
+}
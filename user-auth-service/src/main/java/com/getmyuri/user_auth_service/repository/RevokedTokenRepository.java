@@ -0,0 +1,24 @@
+package com.getmyuri.user_auth_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.getmyuri.user_auth_service.model.user.RevokedToken;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    @Query("select r.tokenId from RevokedToken r where r.expiresAt > :now")
+    Stream<String> streamActiveTokenIds(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+}
@@ -1,8 +1,12 @@
 package com.getmyuri.user_auth_service.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.getmyuri.user_auth_service.model.user.Token;
@@ -10,6 +14,46 @@ import com.getmyuri.user_auth_service.model.user.Token;
 @Repository
 public interface TokenRepository extends JpaRepository<Token, Integer> {
 
-    Optional<Token> findByToken(String token);
+    // Resolves the user through idx_user_email_lower_unique, then the code through idx_token_user_token.
+    @Query("""
+            select t from Token t join fetch t.user u
+            where lower(u.email) = lower(:email) and t.token = :token
+            order by t.createdAt desc
+            limit 1
+            """)
+    Optional<Token> findLatestByEmailAndToken(@Param("email") String email, @Param("token") String token);
+
+    @Query("select count(t) > 0 from Token t where t.user.id = :userId and t.createdAt > :createdAt")
+    boolean existsNewerToken(@Param("userId") Integer userId, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("""
+            update Token t set t.expiresAt = :now
+            where t.user.id = :userId and t.validatedAt is null and t.expiresAt > :now
+            """)
+    int expireOutstanding(@Param("userId") Integer userId, @Param("now") LocalDateTime now);
+
+    @Query("""
+            select count(t) from Token t
+            where t.expiresAt < :cutoff
+              and (t.validatedAt is not null
+                   or exists (select n.id from Token n where n.user = t.user and n.createdAt > t.createdAt))
+            """)
+    long countExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // Keeps the newest unvalidated token of each user: activateAccount reissues from it, and
+    // without it a user who never activated could neither activate nor register again.
+    @Modifying
+    @Query(value = """
+            delete from token where id in (
+                select t.id from token t
+                where t.expires_at < :cutoff
+                  and (t.validated_at is not null
+                       or exists (select 1 from token n where n.user_id = t.user_id and n.created_at > t.created_at))
+                order by t.expires_at
+                limit :chunkSize
+                for update skip locked)
+            """, nativeQuery = true)
+    int deleteExpiredChunk(@Param("cutoff") LocalDateTime cutoff, @Param("chunkSize") int chunkSize);
 
 }
@@ -1,14 +1,67 @@
 package com.getmyuri.user_auth_service.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.getmyuri.user_auth_service.model.user.User;
+import com.getmyuri.user_auth_service.model.user.UserCredentials;
+import com.getmyuri.user_auth_service.model.user.UserSnapshot;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByEmail(String email);
 
+    // Served by the lower(email) index created in SchemaInitializer.
+    @Query("""
+            select new com.getmyuri.user_auth_service.model.user.UserCredentials(
+                u.id, u.email, u.password, u.firstname, u.lastname, u.enabled, u.accountLocked, u.lockedUntil,
+                r.name)
+            from User u left join u.roles r
+            where lower(u.email) = lower(:email)
+            """)
+    List<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    @Query("""
+            select new com.getmyuri.user_auth_service.model.user.UserCredentials(
+                u.id, u.email, u.password, u.firstname, u.lastname, u.enabled, u.accountLocked, u.lockedUntil,
+                r.name)
+            from User u left join u.roles r
+            where u.id = :id
+            """)
+    List<UserCredentials> findCredentialsById(@Param("id") Integer id);
+
+    default Optional<UserSnapshot> findSnapshotByEmail(String email) {
+        return UserSnapshot.from(findCredentialsByEmail(email));
+    }
+
+    default Optional<UserSnapshot> findSnapshotById(Integer id) {
+        return UserSnapshot.from(findCredentialsById(id));
+    }
+
+    @Query("select count(u) > 0 from User u where lower(u.email) = lower(:email)")
+    boolean existsByEmailNormalized(@Param("email") String email);
+
+    @Query("select lower(u.email) from User u")
+    Stream<String> streamNormalizedEmails();
+
+    @Query("select lower(u.email) from User u where u.createdDate >= :since")
+    Stream<String> streamNormalizedEmailsCreatedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("update User u set u.password = :password, u.lastModifiedData = :now where lower(u.email) = lower(:email)")
+    int updatePassword(@Param("email") String email, @Param("password") String password,
+            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update User u set u.enabled = true, u.lastModifiedData = :now where u.id = :id")
+    int enable(@Param("id") Integer id, @Param("now") LocalDateTime now);
+
 }
@@ -0,0 +1,97 @@
+package com.getmyuri.user_auth_service.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes rows older than a retention period for one table. Rows go in chunks, each in
+ * its own short transaction, so a large backlog never holds locks or produces one huge
+ * WAL burst; at most {@code maxChunks} are deleted per run and the rest waits for the
+ * next one. In dry-run mode a run only counts what it would delete. Publishes
+ * {@code <metricPrefix>.cleanup.deleted}, {@code .duration} and {@code .eligible}.
+ */
+@Slf4j
+public class ChunkedRetentionJob {
+
+    @FunctionalInterface
+    public interface ChunkDelete {
+        int delete(LocalDateTime cutoff, int chunkSize);
+    }
+
+    private final String name;
+    private final Duration retention;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final boolean dryRun;
+    private final ToLongFunction<LocalDateTime> countQuery;
+    private final ChunkDelete deleteChunkQuery;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter deleted;
+    private final Timer duration;
+    private final AtomicLong eligible = new AtomicLong();
+
+    /**
+     * @param name             what the rows are, used in log messages
+     * @param countQuery       counts the rows older than the cutoff
+     * @param deleteChunkQuery deletes up to chunkSize rows older than the cutoff, returning how many
+     */
+    @Builder
+    private ChunkedRetentionJob(String name, String metricPrefix, Duration retention, int chunkSize, int maxChunks,
+            boolean dryRun, ToLongFunction<LocalDateTime> countQuery, ChunkDelete deleteChunkQuery,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.dryRun = dryRun;
+        this.countQuery = countQuery;
+        this.deleteChunkQuery = deleteChunkQuery;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deleted = meterRegistry.counter(metricPrefix + ".cleanup.deleted");
+        this.duration = Timer.builder(metricPrefix + ".cleanup.duration")
+                .description("Time taken by one cleanup run")
+                .register(meterRegistry);
+        meterRegistry.gauge(metricPrefix + ".cleanup.eligible", eligible);
+    }
+
+    public void run() {
+        long startedAt = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        try {
+            if (dryRun) {
+                long count = countQuery.applyAsLong(cutoff);
+                eligible.set(count);
+                log.info("Cleanup dry run: {} {} before {}", count, name, cutoff);
+                return;
+            }
+            long total = 0;
+            int removed;
+            int chunks = 0;
+            do {
+                removed = transactionTemplate.execute(status -> deleteChunkQuery.delete(cutoff, chunkSize));
+                deleted.increment(removed);
+                total += removed;
+            } while (removed == chunkSize && ++chunks < maxChunks);
+            // Left over for the next run when max-chunks was reached.
+            eligible.set(removed == chunkSize ? countQuery.applyAsLong(cutoff) : 0);
+            if (total > 0) {
+                log.info("Deleted {} {} before {}", total, name, cutoff);
+            }
+        } finally {
+            duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+}
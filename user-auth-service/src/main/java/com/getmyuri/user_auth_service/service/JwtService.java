@@ -1,9 +1,11 @@
 package com.getmyuri.user_auth_service.service;
 
-import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -11,20 +13,41 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.getmyuri.user_auth_service.model.auth.VerifiedClaims;
+import com.getmyuri.user_auth_service.service.security.JwtKeyStore;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class JwtService {
 
+    public static final String AUTHORITIES_CLAIM = "authorities";
+    public static final String FULL_NAME_CLAIM = "fullName";
+
     @Value("${application.security.jwt.expiration}")
     private long jwtExpiration;
 
-    @Value("${application.security.jwt.secret-key}")
-    private String secretKey;
+    private final JwtKeyStore keyStore;
+
+    // Built once at startup; immutable and shared by all request threads.
+    private JwtParser jwtParser;
+
+    /**
+     * Parses and verifies the token exactly once.
+     *
+     * @throws io.jsonwebtoken.JwtException if the signature is invalid or the token has expired
+     */
+    public VerifiedClaims verifyToken(String token) {
+        return toVerifiedClaims(extractAllClaims(token));
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -36,14 +59,34 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
+    private VerifiedClaims toVerifiedClaims(Claims claims) {
+        return VerifiedClaims.builder()
+                .tokenId(claims.getId())
+                .subject(claims.getSubject())
+                .issuedAt(toInstant(claims.getIssuedAt()))
+                .expiresAt(toInstant(claims.getExpiration()))
+                .authorities(extractAuthorities(claims))
+                .fullName(claims.get(FULL_NAME_CLAIM, String.class))
+                .build();
+    }
+
+    private List<String> extractAuthorities(Claims claims) {
+        Object authorities = claims.get(AUTHORITIES_CLAIM);
+        if (!(authorities instanceof List<?> list)) {
+            return List.of();
+        }
+        return list.stream().map(String::valueOf).toList();
+    }
+
+    private static Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
     }
@@ -63,37 +106,38 @@ public class JwtService {
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long jwtExpiration) {
         var authorities = userDetails.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority).toList();
-        return Jwts.builder().setClaims(extraClaims)
+        long now = System.currentTimeMillis();
+        var builder = Jwts.builder();
+        if (keyStore.getSigningKeyId() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, keyStore.getSigningKeyId());
+        }
+        return builder.setClaims(extraClaims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .claim("authorities", authorities)
-                .signWith(getSignInKey())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + jwtExpiration))
+                .claim(AUTHORITIES_CLAIM, authorities)
+                .signWith(keyStore.getSigningKey(), keyStore.getAlgorithm())
                 .compact();
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return isTokenValid(verifyToken(token), userDetails);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(VerifiedClaims claims, UserDetails userDetails) {
+        return claims.getSubject() != null
+                && claims.getSubject().equals(userDetails.getUsername())
+                && !claims.isExpired(Instant.now());
     }
 
     @PostConstruct
-    public void validateProperties() { // TODO:// Implement logger
-        System.out.println("JWT secret loaded: " + (secretKey != null));
-        System.out.println("JWT expiration loaded: " + jwtExpiration);
+    public void validateProperties() {
+        log.info("JWT signing algorithm loaded: {}", keyStore.getAlgorithm());
+        log.info("JWT expiration loaded: {}", jwtExpiration);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keyStore)
+                .build();
     }
 
 }
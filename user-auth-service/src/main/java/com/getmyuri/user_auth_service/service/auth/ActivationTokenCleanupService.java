@@ -0,0 +1,53 @@
+package com.getmyuri.user_auth_service.service.auth;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.getmyuri.user_auth_service.repository.TokenRepository;
+import com.getmyuri.user_auth_service.service.ChunkedRetentionJob;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Deletes activation tokens that expired more than the retention period ago, in
+ * chunks through {@link ChunkedRetentionJob}. The newest token of a user who has not
+ * activated is kept, since presenting it is how that user gets a new code.
+ */
+@Service
+@ConditionalOnProperty(name = "application.security.activation-token.cleanup.enabled", matchIfMissing = true)
+public class ActivationTokenCleanupService {
+
+    private final ChunkedRetentionJob job;
+
+    public ActivationTokenCleanupService(TokenRepository tokenRepository,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${application.security.activation-token.cleanup.retention-hours:168}") long retentionHours,
+            @Value("${application.security.activation-token.cleanup.chunk-size:1000}") int chunkSize,
+            @Value("${application.security.activation-token.cleanup.max-chunks:100}") int maxChunks,
+            @Value("${application.security.activation-token.cleanup.dry-run:false}") boolean dryRun) {
+        this.job = ChunkedRetentionJob.builder()
+                .name("activation tokens expired")
+                .metricPrefix("activation.token")
+                .retention(Duration.ofHours(retentionHours))
+                .chunkSize(chunkSize)
+                .maxChunks(maxChunks)
+                .dryRun(dryRun)
+                .countQuery(tokenRepository::countExpiredBefore)
+                .deleteChunkQuery(tokenRepository::deleteExpiredChunk)
+                .transactionManager(transactionManager)
+                .meterRegistry(meterRegistry)
+                .build();
+    }
+
+    @Scheduled(initialDelayString = "${application.security.activation-token.cleanup.interval:3600000}",
+            fixedDelayString = "${application.security.activation-token.cleanup.interval:3600000}")
+    public void cleanup() {
+        job.run();
+    }
+
+}
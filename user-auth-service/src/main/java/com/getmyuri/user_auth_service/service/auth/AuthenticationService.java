@@ -7,11 +7,17 @@ import java.util.List;
 
 import org.apache.coyote.http11.filters.SavedRequestInputFilter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.getmyuri.user_auth_service.common.constants.Constants;
 import static com.getmyuri.user_auth_service.common.constants.EmailConstants.ACTIVATION_ACTIVATION;
@@ -19,17 +25,26 @@ import static com.getmyuri.user_auth_service.common.constants.EmailConstants.DIG
 
 import com.getmyuri.user_auth_service.model.auth.AuthenticationRequest;
 import com.getmyuri.user_auth_service.model.auth.AuthenticationResponse;
+import com.getmyuri.user_auth_service.model.auth.RefreshTokenRequest;
 import com.getmyuri.user_auth_service.model.auth.RegistrationRequest;
 import com.getmyuri.user_auth_service.model.email.EmailTemplateName;
+import com.getmyuri.user_auth_service.model.exception.BusinessErrorCodes;
+import com.getmyuri.user_auth_service.model.exception.BusinessException;
 import com.getmyuri.user_auth_service.model.user.Token;
 import com.getmyuri.user_auth_service.model.user.User;
-import com.getmyuri.user_auth_service.repository.RoleRepository;
+import com.getmyuri.user_auth_service.model.user.UserChangedEvent;
+import com.getmyuri.user_auth_service.model.user.UserSnapshot;
 import com.getmyuri.user_auth_service.repository.TokenRepository;
 import com.getmyuri.user_auth_service.repository.UserRepository;
 import com.getmyuri.user_auth_service.service.JwtService;
-import com.getmyuri.user_auth_service.service.email.EmailService;
-
-import jakarta.mail.MessagingException;
+import com.getmyuri.user_auth_service.service.email.EmailOutboxService;
+import com.getmyuri.user_auth_service.service.role.RoleRegistry;
+import com.getmyuri.user_auth_service.service.security.LoginActivityTracker;
+import com.getmyuri.user_auth_service.service.security.LoginThrottle;
+import com.getmyuri.user_auth_service.service.security.TokenRevocationService;
+import com.getmyuri.user_auth_service.service.security.VerifiedTokenCache;
+
+import io.jsonwebtoken.JwtException;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -38,20 +53,48 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AuthenticationService {
 
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenRepository tokenRepository;
     private final AuthenticationManager authenticationManager;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LoginThrottle loginThrottle;
+    private final LoginActivityTracker loginActivityTracker;
+    private final RegisteredEmailIndex registeredEmailIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
 
     @Value("${application.mailing.frontend.activation-url}")
     private String activationUrl;
 
-    public void register(RegistrationRequest request) throws MessagingException {
-        var userRole = roleRepository.findByName(Constants.USER)
-                .orElseThrow(() -> new IllegalStateException("ROLE USER was not initialized"));
+    public boolean isEmailAvailable(String email, String clientIp) {
+        loginThrottle.acquireEmailLookup(clientIp);
+        return !registeredEmailIndex.isRegistered(email);
+    }
+
+    public void register(RegistrationRequest request) {
+        register(request, () -> {
+        });
+    }
+
+    /**
+     * Registers the user and queues the activation email. The password is hashed before
+     * the transaction opens, so no connection is held for the duration of the hash.
+     *
+     * @param inTransaction run in the transaction that stores the user, e.g. to record an idempotency key
+     */
+    public void register(RegistrationRequest request, Runnable inTransaction) {
+        if (registeredEmailIndex.isRegistered(request.getEmail())) {
+            throw new BusinessException(BusinessErrorCodes.EMAIL_ALREADY_REGISTERED);
+        }
+        var userRole = roleRegistry.getRole(Constants.USER);
         var user = User.builder()
                 .firstname(request.getFirstname())
                 .lastname(request.getLastname())
@@ -61,25 +104,37 @@ public class AuthenticationService {
                 .enabled(false)
                 .roles(List.of(userRole))
                 .build();
-        userRepository.save(user);
-        sendValidationEmail(user);
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                // Flush now so a duplicate registered elsewhere fails here with a clear error.
+                userRepository.saveAndFlush(user);
+            } catch (DataIntegrityViolationException e) {
+                throw new BusinessException(BusinessErrorCodes.EMAIL_ALREADY_REGISTERED);
+            }
+            registeredEmailIndex.add(user.getEmail());
+            sendValidationEmail(user);
+            inTransaction.run();
+        });
     }
 
-    private void sendValidationEmail(User user) throws MessagingException {
+    private void sendValidationEmail(User user) {
         var newToken = generateAndSaveActivationToken(user);
-        emailService.sendEmail(user.getEmail(),
+        emailOutboxService.enqueue(user.getEmail(),
                 user.fullName(),
                 EmailTemplateName.ACTIVATE_ACCOUNT,
                 activationUrl, newToken, ACTIVATION_ACTIVATION);
 
     }
 
+    // Only the newest code per user stays valid.
     private String generateAndSaveActivationToken(User user) {
         String generatedToken = generateActivationCode(6);
+        var now = LocalDateTime.now();
+        tokenRepository.expireOutstanding(user.getId(), now);
         var token = Token.builder()
                 .token(generatedToken)
-                .createdAt(LocalDateTime.now())
-                .expiresAt(LocalDateTime.now().plusMinutes(15))
+                .createdAt(now)
+                .expiresAt(now.plusMinutes(15))
                 .user(user)
                 .build();
         tokenRepository.save(token);
@@ -89,45 +144,88 @@ public class AuthenticationService {
     private String generateActivationCode(int length) {
         String characters = DIGITS;
         StringBuilder numberGen = new StringBuilder();
-        SecureRandom random = new SecureRandom();
         for (int i = 0; i < length; i++) {
-            int randomIndex = random.nextInt(characters.length());
+            int randomIndex = RANDOM.nextInt(characters.length());
             numberGen.append(characters.charAt(randomIndex));
         }
         return numberGen.toString();
     }
 
-    public AuthenticationResponse authenticate(AuthenticationRequest request) {
-        var auth = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
-                request.getEmail(), request.getPassword()));
-        var claims = new HashMap<String, Object>();
-        var user = ((User) auth.getPrincipal());
-        claims.put("fullName", user.fullName());
-        var jwtToken = jwtService.generateToken(claims, user);
-        return AuthenticationResponse.builder().token(jwtToken)
+    public AuthenticationResponse authenticate(AuthenticationRequest request, String clientIp) {
+        loginThrottle.acquire(request.getEmail(), clientIp);
+        loginActivityTracker.checkNotLocked(request.getEmail());
+        Authentication auth;
+        try {
+            auth = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
+                    request.getEmail(), request.getPassword()));
+        } catch (BadCredentialsException e) {
+            loginActivityTracker.recordFailure(request.getEmail());
+            throw e;
+        }
+        var user = ((UserSnapshot) auth.getPrincipal());
+        loginActivityTracker.recordSuccess(user.getEmail());
+        return AuthenticationResponse.builder()
+                .token(generateAccessToken(user, user.fullName()))
+                .refreshToken(refreshTokenService.issue(userRepository.getReferenceById(user.getId())))
                 .build();
 
     }
 
+    @Transactional(dontRollbackOn = BusinessException.class)
+    public AuthenticationResponse refresh(RefreshTokenRequest request) {
+        var consumed = refreshTokenService.consume(request.getRefreshToken());
+        var user = userRepository.findSnapshotById(consumed.getUser().getId())
+                .orElseThrow(() -> new BusinessException(BusinessErrorCodes.INVALID_REFRESH_TOKEN));
+        if (!user.isEnabled() || !user.isAccountNonLocked()) {
+            throw new BusinessException(BusinessErrorCodes.INVALID_REFRESH_TOKEN);
+        }
+        return AuthenticationResponse.builder()
+                .token(generateAccessToken(user, user.fullName()))
+                .refreshToken(refreshTokenService.rotate(consumed))
+                .build();
+    }
+
     @Transactional
-    public void activateAccount(String token, String email) throws MessagingException {
-        Token savedToken = tokenRepository.findByToken(token)
-                .orElseThrow(() -> new RuntimeException("Invalid token"));
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            try {
+                tokenRevocationService.revoke(verifiedTokenCache.verify(accessToken));
+            } catch (JwtException | IllegalArgumentException e) {
+                // already expired or invalid, nothing to revoke
+            }
+        }
+        if (refreshToken != null) {
+            refreshTokenService.revoke(refreshToken);
+        }
+    }
+
+    private String generateAccessToken(UserDetails user, String fullName) {
+        var claims = new HashMap<String, Object>();
+        claims.put(JwtService.FULL_NAME_CLAIM, fullName);
+        return jwtService.generateToken(claims, user);
+    }
+
+    // The reissued token and its email must survive the expiry error.
+    @Transactional(dontRollbackOn = BusinessException.class)
+    public void activateAccount(String token, String email) {
+        Token savedToken = tokenRepository.findLatestByEmailAndToken(email, token)
+                .orElseThrow(() -> new BusinessException(BusinessErrorCodes.INVALID_ACTIVATION_TOKEN));
 
         User userFromToken = savedToken.getUser();
-        if (userFromToken == null || !email.equalsIgnoreCase(userFromToken.getEmail())) {
-            throw new RuntimeException("Invalid token or email");
-        }
 
         if (LocalDateTime.now().isAfter(savedToken.getExpiresAt())) {
+            // Only the newest code may trigger a new email; older codes were superseded on issue.
+            if (tokenRepository.existsNewerToken(userFromToken.getId(), savedToken.getCreatedAt())) {
+                throw new BusinessException(BusinessErrorCodes.INVALID_ACTIVATION_TOKEN);
+            }
             sendValidationEmail(savedToken.getUser());
-            throw new RuntimeException("Activation token has expired. A new token is issued");
+            throw new BusinessException(BusinessErrorCodes.ACTIVATION_TOKEN_EXPIRED);
         }
 
-        var user = userRepository.findById(userFromToken.getId())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        user.setEnabled(Boolean.TRUE);
-        userRepository.save(user);
+        if (userRepository.enable(userFromToken.getId(), LocalDateTime.now()) == 0) {
+            throw new UsernameNotFoundException("User not found");
+        }
+        eventPublisher.publishEvent(UserChangedEvent.of(userFromToken.getEmail()));
         savedToken.setValidatedAt(LocalDateTime.now());
         tokenRepository.save(savedToken);
 
@@ -0,0 +1,171 @@
+package com.getmyuri.user_auth_service.service.auth;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.getmyuri.user_auth_service.model.exception.BusinessErrorCodes;
+import com.getmyuri.user_auth_service.model.exception.BusinessException;
+import com.getmyuri.user_auth_service.model.idempotency.IdempotencyRecord;
+import com.getmyuri.user_auth_service.repository.IdempotencyRecordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs an operation at most once per {@code Idempotency-Key}. Keys are tracked in a
+ * bounded, expiring in-memory map of futures, so a duplicate that arrives while the
+ * first request is still running waits for it instead of running again. Completed
+ * keys are also stored in Postgres, in the operation's own transaction, so retries
+ * that reach another instance or outlive the memory entry are still recognised.
+ * Failed executions are forgotten and may be retried.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 200;
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, CompletableFuture<IdempotencyRecord>> inFlight;
+    private final Duration ttl;
+    private final long waitMillis;
+    private final Counter replayed;
+
+    public IdempotencyService(IdempotencyRecordRepository recordRepository,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${application.idempotency.max-size:100000}") long maxSize,
+            @Value("${application.idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${application.idempotency.wait-millis:10000}") long waitMillis) {
+        this.recordRepository = recordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = Duration.ofHours(ttlHours);
+        this.waitMillis = waitMillis;
+        this.inFlight = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, inFlight, "idempotencyKeys");
+        this.replayed = meterRegistry.counter("idempotency.replayed");
+    }
+
+    /**
+     * Runs the operation unless the key was already used for the same request.
+     *
+     * @param operation   name of the operation, keys are scoped to it
+     * @param key         the client's Idempotency-Key
+     * @param fingerprint digest of the request, a key reused for a different request is rejected
+     * @param status      response status recorded for the operation's success
+     * @param action      runs the operation and must call the given callback inside the transaction
+     *                    that commits its effects; work before that transaction, such as password
+     *                    hashing, holds no connection
+     * @return the recorded response status, and whether it was replayed
+     */
+    public Outcome execute(String operation, String key, String fingerprint, int status,
+            Consumer<Runnable> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(BusinessErrorCodes.INVALID_IDEMPOTENCY_KEY);
+        }
+        String id = operation + ":" + key;
+        while (true) {
+            var mine = new CompletableFuture<IdempotencyRecord>();
+            var existing = inFlight.asMap().putIfAbsent(id, mine);
+            if (existing != null) {
+                IdempotencyRecord record = await(existing);
+                if (record != null) {
+                    return replay(record, fingerprint);
+                }
+                // The first attempt failed and released the key; try to claim it again.
+                continue;
+            }
+            try {
+                var stored = recordRepository.findById(id)
+                        .filter(r -> r.getExpiresAt().isAfter(LocalDateTime.now()));
+                if (stored.isPresent()) {
+                    mine.complete(stored.get());
+                    return replay(stored.get(), fingerprint);
+                }
+                var saved = new AtomicReference<IdempotencyRecord>();
+                action.accept(() -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    saved.set(recordRepository.save(IdempotencyRecord.builder()
+                            .idempotencyKey(id)
+                            .fingerprint(fingerprint)
+                            .responseStatus(status)
+                            .createdAt(now)
+                            .expiresAt(now.plus(ttl))
+                            .build()));
+                });
+                IdempotencyRecord record = saved.get();
+                if (record == null) {
+                    throw new IllegalStateException("Operation " + operation + " did not record its idempotency key");
+                }
+                mine.complete(record);
+                return new Outcome(record.getResponseStatus(), false);
+            } catch (RuntimeException e) {
+                inFlight.asMap().remove(id, mine);
+                mine.cancel(false);
+                throw e;
+            }
+        }
+    }
+
+    // Returns null when the awaited execution failed.
+    private IdempotencyRecord await(CompletableFuture<IdempotencyRecord> future) {
+        try {
+            return future.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (CancellationException | ExecutionException e) {
+            return null;
+        } catch (TimeoutException e) {
+            throw new BusinessException(BusinessErrorCodes.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(BusinessErrorCodes.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private Outcome replay(IdempotencyRecord record, String fingerprint) {
+        if (!record.getFingerprint().equals(fingerprint)) {
+            throw new BusinessException(BusinessErrorCodes.IDEMPOTENCY_KEY_REUSED);
+        }
+        replayed.increment();
+        return new Outcome(record.getResponseStatus(), true);
+    }
+
+    @Scheduled(initialDelayString = "${application.idempotency.purge-interval:3600000}",
+            fixedDelayString = "${application.idempotency.purge-interval:3600000}")
+    public void purgeExpired() {
+        int purged = transactionTemplate.execute(tx -> recordRepository.deleteExpired(LocalDateTime.now()));
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    @lombok.Value
+    public static class Outcome {
+
+        int status;
+        // true when the response was replayed instead of running the operation
+        boolean replayed;
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.getmyuri.user_auth_service.service.auth;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.getmyuri.user_auth_service.repository.RefreshTokenRepository;
+import com.getmyuri.user_auth_service.service.ChunkedRetentionJob;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Deletes refresh tokens that expired or were revoked more than the retention period
+ * ago. Used tokens are covered once they expire, which keeps reuse detection working
+ * for as long as a replayed token could otherwise have been accepted.
+ */
+@Service
+@ConditionalOnProperty(name = "application.security.refresh-token.cleanup.enabled", matchIfMissing = true)
+public class RefreshTokenCleanupService {
+
+    private final ChunkedRetentionJob job;
+
+    public RefreshTokenCleanupService(RefreshTokenRepository refreshTokenRepository,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${application.security.refresh-token.cleanup.retention-hours:168}") long retentionHours,
+            @Value("${application.security.refresh-token.cleanup.chunk-size:1000}") int chunkSize,
+            @Value("${application.security.refresh-token.cleanup.max-chunks:100}") int maxChunks,
+            @Value("${application.security.refresh-token.cleanup.dry-run:false}") boolean dryRun) {
+        this.job = ChunkedRetentionJob.builder()
+                .name("refresh tokens expired or revoked")
+                .metricPrefix("refresh.token")
+                .retention(Duration.ofHours(retentionHours))
+                .chunkSize(chunkSize)
+                .maxChunks(maxChunks)
+                .dryRun(dryRun)
+                .countQuery(refreshTokenRepository::countFinishedBefore)
+                .deleteChunkQuery(refreshTokenRepository::deleteFinishedChunk)
+                .transactionManager(transactionManager)
+                .meterRegistry(meterRegistry)
+                .build();
+    }
+
+    @Scheduled(initialDelayString = "${application.security.refresh-token.cleanup.interval:3600000}",
+            fixedDelayString = "${application.security.refresh-token.cleanup.interval:3600000}")
+    public void cleanup() {
+        job.run();
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.getmyuri.user_auth_service.service.auth;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.getmyuri.user_auth_service.common.util.Hashing;
+import com.getmyuri.user_auth_service.model.exception.BusinessErrorCodes;
+import com.getmyuri.user_auth_service.model.exception.BusinessException;
+import com.getmyuri.user_auth_service.model.user.RefreshToken;
+import com.getmyuri.user_auth_service.model.user.User;
+import com.getmyuri.user_auth_service.repository.RefreshTokenRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues opaque refresh tokens and rotates them on every use. Presenting an already
+ * rotated token revokes its whole family, since it means the token was leaked.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${application.security.jwt.refresh-expiration:1209600000}")
+    private long refreshExpiration;
+
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Consumes the presented token and returns the stored entry, whose user gets a new token pair.
+     * The user association is lazy; only its id is needed to look up the current user state.
+     * Must run inside the caller's transaction so the row lock is held until the new token is saved.
+     */
+    public RefreshToken consume(String rawToken) {
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(Hashing.sha256(rawToken))
+                .orElseThrow(() -> new BusinessException(BusinessErrorCodes.INVALID_REFRESH_TOKEN));
+        LocalDateTime now = LocalDateTime.now();
+
+        if (stored.getUsedAt() != null || stored.getRevokedAt() != null) {
+            int revoked = refreshTokenRepository.revokeFamily(stored.getFamilyId(), now);
+            log.warn("Refresh token reuse detected for user {}, revoked {} tokens",
+                    stored.getUser().getId(), revoked);
+            throw new BusinessException(BusinessErrorCodes.INVALID_REFRESH_TOKEN);
+        }
+        if (now.isAfter(stored.getExpiresAt())) {
+            throw new BusinessException(BusinessErrorCodes.INVALID_REFRESH_TOKEN);
+        }
+
+        stored.setUsedAt(now);
+        refreshTokenRepository.save(stored);
+        return stored;
+    }
+
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(Hashing.sha256(rawToken))
+                .ifPresent(stored -> refreshTokenRepository.revokeFamily(stored.getFamilyId(), LocalDateTime.now()));
+    }
+
+    public String rotate(RefreshToken consumed) {
+        return issue(consumed.getUser(), consumed.getFamilyId());
+    }
+
+    private String issue(User user, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(Hashing.sha256(rawToken))
+                .familyId(familyId)
+                .createdAt(now)
+                .expiresAt(now.plus(Duration.ofMillis(refreshExpiration)))
+                .user(user)
+                .build());
+        return rawToken;
+    }
+
+}
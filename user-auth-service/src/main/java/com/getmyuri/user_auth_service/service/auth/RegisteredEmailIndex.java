@@ -0,0 +1,134 @@
+package com.getmyuri.user_auth_service.service.auth;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.getmyuri.user_auth_service.common.util.BloomFilter;
+import com.getmyuri.user_auth_service.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Answers "is this email registered?" with a Bloom filter of all registered emails,
+ * so most new addresses are accepted without a query; possible hits are confirmed
+ * through the lower(email) index. The filter is loaded in full at startup and then
+ * topped up with recent registrations, which picks up those made by other instances.
+ * A full rebuild every {@code full-rebuild-hours} drops users deleted since the last one.
+ */
+@Service
+public class RegisteredEmailIndex {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedEmails;
+    private final double falsePositiveProbability;
+    private final Duration fullRebuildInterval;
+    // Rows committed late or stamped by a skewed clock are still caught by the next refresh.
+    private final Duration refreshOverlap;
+    private final Counter filterHits;
+    private final Counter confirmed;
+
+    private volatile BloomFilter filter;
+    // Non-null while a rebuild is loading, so concurrent registrations land in both filters.
+    private volatile BloomFilter rebuilding;
+    private final AtomicLong filterSize = new AtomicLong();
+    private volatile LocalDateTime refreshedAt;
+    private volatile LocalDateTime rebuiltAt;
+
+    public RegisteredEmailIndex(UserRepository userRepository, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.registered-emails.expected-emails:1000000}") long expectedEmails,
+            @Value("${application.security.registered-emails.false-positive-probability:0.01}") double falsePositiveProbability,
+            @Value("${application.security.registered-emails.full-rebuild-hours:24}") long fullRebuildHours,
+            @Value("${application.security.registered-emails.refresh-overlap-seconds:60}") long refreshOverlapSeconds) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.expectedEmails = expectedEmails;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.fullRebuildInterval = Duration.ofHours(fullRebuildHours);
+        this.refreshOverlap = Duration.ofSeconds(refreshOverlapSeconds);
+        this.filter = BloomFilter.create(expectedEmails, falsePositiveProbability);
+        this.filterHits = meterRegistry.counter("registered.emails.filter.hits");
+        this.confirmed = meterRegistry.counter("registered.emails.confirmed");
+        meterRegistry.gauge("registered.emails.filter.size", filterSize);
+    }
+
+    public boolean isRegistered(String email) {
+        String normalized = normalize(email);
+        if (!filter.mightContain(normalized)) {
+            return false;
+        }
+        filterHits.increment();
+        boolean registered = userRepository.existsByEmailNormalized(normalized);
+        if (registered) {
+            confirmed.increment();
+        }
+        return registered;
+    }
+
+    // A rolled back registration only leaves a false positive behind, which the lookup resolves.
+    public void add(String email) {
+        String normalized = normalize(email);
+        BloomFilter pending = rebuilding;
+        if (filter.put(normalized)) {
+            filterSize.incrementAndGet();
+        }
+        if (pending != null) {
+            pending.put(normalized);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${application.security.registered-emails.rebuild-interval:300000}",
+            fixedDelayString = "${application.security.registered-emails.rebuild-interval:300000}")
+    public void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (!rebuiltAt.plus(fullRebuildInterval).isAfter(startedAt)) {
+            rebuild();
+            return;
+        }
+        // Overlap rows and emails added locally are already in the filter and not counted again.
+        long added = transactionTemplate.execute(status -> {
+            try (var emails = userRepository.streamNormalizedEmailsCreatedSince(refreshedAt.minus(refreshOverlap))) {
+                return emails.filter(filter::put).count();
+            }
+        });
+        refreshedAt = startedAt;
+        filterSize.addAndGet(added);
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        BloomFilter next = BloomFilter.create(expectedEmails, falsePositiveProbability);
+        rebuilding = next;
+        try {
+            long loaded = transactionTemplate.execute(status -> {
+                try (var emails = userRepository.streamNormalizedEmails()) {
+                    return emails.peek(next::put).count();
+                }
+            });
+            filter = next;
+            filterSize.set(loaded);
+            refreshedAt = startedAt;
+            rebuiltAt = startedAt;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.getmyuri.user_auth_service.service.email;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.getmyuri.user_auth_service.repository.EmailOutboxRepository;
+import com.getmyuri.user_auth_service.service.ChunkedRetentionJob;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Deletes SENT and FAILED outbox emails created more than the retention period ago,
+ * so activation codes do not stay in the table once they can no longer be used.
+ * Pending and in-flight rows are never touched.
+ */
+@Service
+@ConditionalOnProperty(name = "application.mailing.outbox.cleanup.enabled", matchIfMissing = true)
+public class EmailOutboxCleanupService {
+
+    private final ChunkedRetentionJob job;
+
+    public EmailOutboxCleanupService(EmailOutboxRepository emailOutboxRepository,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${application.mailing.outbox.cleanup.retention-hours:72}") long retentionHours,
+            @Value("${application.mailing.outbox.cleanup.chunk-size:1000}") int chunkSize,
+            @Value("${application.mailing.outbox.cleanup.max-chunks:100}") int maxChunks,
+            @Value("${application.mailing.outbox.cleanup.dry-run:false}") boolean dryRun) {
+        this.job = ChunkedRetentionJob.builder()
+                .name("finished outbox emails created")
+                .metricPrefix("email.outbox")
+                .retention(Duration.ofHours(retentionHours))
+                .chunkSize(chunkSize)
+                .maxChunks(maxChunks)
+                .dryRun(dryRun)
+                .countQuery(emailOutboxRepository::countFinishedBefore)
+                .deleteChunkQuery(emailOutboxRepository::deleteFinishedChunk)
+                .transactionManager(transactionManager)
+                .meterRegistry(meterRegistry)
+                .build();
+    }
+
+    @Scheduled(initialDelayString = "${application.mailing.outbox.cleanup.interval:3600000}",
+            fixedDelayString = "${application.mailing.outbox.cleanup.interval:3600000}")
+    public void cleanup() {
+        job.run();
+    }
+
+}
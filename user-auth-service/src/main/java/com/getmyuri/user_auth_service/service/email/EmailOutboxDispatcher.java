@@ -0,0 +1,129 @@
+package com.getmyuri.user_auth_service.service.email;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.getmyuri.user_auth_service.model.email.EmailOutboxMessage;
+import com.getmyuri.user_auth_service.model.email.EmailOutboxStatus;
+import com.getmyuri.user_auth_service.repository.EmailOutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Claims pending outbox rows in batches, sends them concurrently on the mail executor
+ * and records the outcome, retrying failures with exponential backoff.
+ */
+@Slf4j
+@Service
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final Executor mailExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    @Value("${application.mailing.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${application.mailing.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${application.mailing.outbox.backoff-seconds:30}")
+    private long backoffSeconds;
+
+    @Value("${application.mailing.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository, EmailService emailService,
+            @Qualifier("mailExecutor") Executor mailExecutor, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.mailExecutor = mailExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sent = meterRegistry.counter("email.outbox.sent");
+        this.retried = meterRegistry.counter("email.outbox.retried");
+        this.failed = meterRegistry.counter("email.outbox.failed");
+    }
+
+    @Scheduled(fixedDelayString = "${application.mailing.outbox.poll-interval:2000}")
+    public void dispatch() {
+        List<EmailOutboxMessage> batch;
+        do {
+            batch = claimBatch();
+            CompletableFuture.allOf(batch.stream()
+                    .map(message -> CompletableFuture
+                            .runAsync(() -> emailService.sendEmail(message), mailExecutor)
+                            .handle((ignored, error) -> {
+                                recordOutcome(message, error);
+                                return null;
+                            }))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+        } while (batch.size() == batchSize);
+    }
+
+    private List<EmailOutboxMessage> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutboxMessage> claimed = emailOutboxRepository.lockNextBatch(now, batchSize);
+            for (EmailOutboxMessage message : claimed) {
+                message.setStatus(EmailOutboxStatus.SENDING);
+                message.setLockedUntil(now.plusSeconds(leaseSeconds));
+                message.setAttempts(message.getAttempts() + 1);
+            }
+            return emailOutboxRepository.saveAll(claimed);
+        });
+    }
+
+    private void recordOutcome(EmailOutboxMessage message, Throwable error) {
+        LocalDateTime now = LocalDateTime.now();
+        message.setLockedUntil(null);
+        if (error == null) {
+            message.setStatus(EmailOutboxStatus.SENT);
+            message.setSentAt(now);
+            message.setLastError(null);
+            sent.increment();
+        } else {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            message.setLastError(truncate(String.valueOf(cause.getMessage())));
+            if (message.getAttempts() >= maxAttempts) {
+                message.setStatus(EmailOutboxStatus.FAILED);
+                failed.increment();
+                log.error("Giving up on outbox email {} after {} attempts", message.getId(), message.getAttempts(),
+                        cause);
+            } else {
+                message.setStatus(EmailOutboxStatus.PENDING);
+                message.setNextAttemptAt(now.plus(backoff(message.getAttempts())));
+                retried.increment();
+                log.warn("Outbox email {} failed on attempt {}: {}", message.getId(), message.getAttempts(),
+                        cause.getMessage());
+            }
+        }
+        emailOutboxRepository.save(message);
+    }
+
+    private Duration backoff(int attempts) {
+        return Duration.ofSeconds(backoffSeconds << Math.min(attempts - 1, 10));
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= 1000 ? value : value.substring(0, 1000);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.getmyuri.user_auth_service.service.email;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+
+import com.getmyuri.user_auth_service.model.email.EmailOutboxMessage;
+import com.getmyuri.user_auth_service.model.email.EmailOutboxStatus;
+import com.getmyuri.user_auth_service.model.email.EmailTemplateName;
+import com.getmyuri.user_auth_service.repository.EmailOutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    /**
+     * Queues an email in the caller's transaction; it is only sent once that transaction commits.
+     */
+    public void enqueue(String to, String username, EmailTemplateName emailTemplate, String confirmation,
+            String activationCode, String subject) {
+        LocalDateTime now = LocalDateTime.now();
+        emailOutboxRepository.save(EmailOutboxMessage.builder()
+                .recipient(to)
+                .username(username)
+                .template(emailTemplate)
+                .confirmationUrl(confirmation)
+                .activationCode(activationCode)
+                .subject(subject)
+                .status(EmailOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+    }
+
+}
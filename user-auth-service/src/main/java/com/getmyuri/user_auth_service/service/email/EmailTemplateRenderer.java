@@ -0,0 +1,125 @@
+package com.getmyuri.user_auth_service.service.email;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import com.getmyuri.user_auth_service.model.email.EmailTemplateName;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Renders each {@link EmailTemplateName} once at startup with a unique marker per
+ * variable and splits the output into its static parts. Sending then only escapes the
+ * variable values and concatenates them with the precomputed parts into a per-thread
+ * buffer, instead of running the Thymeleaf pipeline per message. Templates whose
+ * output does not contain every marker exactly once fall back to Thymeleaf.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailTemplateRenderer {
+
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final SpringTemplateEngine templateEngine;
+
+    private final Map<EmailTemplateName, CompiledTemplate> compiled = new EnumMap<>(EmailTemplateName.class);
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(StringBuilder::new);
+
+    @PostConstruct
+    public void warmUp() {
+        for (EmailTemplateName template : EmailTemplateName.values()) {
+            CompiledTemplate compiledTemplate = compile(template);
+            if (compiledTemplate != null) {
+                compiled.put(template, compiledTemplate);
+            } else {
+                log.warn("Email template {} renders through Thymeleaf on every send", template.getName());
+            }
+        }
+    }
+
+    public String render(EmailTemplateName template, Map<String, String> variables) {
+        CompiledTemplate compiledTemplate = compiled.get(template);
+        if (compiledTemplate == null) {
+            Context context = new Context();
+            context.setVariables(new HashMap<>(variables));
+            return templateEngine.process(template.getName(), context);
+        }
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        for (Segment segment : compiledTemplate.segments()) {
+            if (segment.variable() == null) {
+                buffer.append(segment.text());
+            } else {
+                String value = variables.get(segment.variable());
+                if (value != null) {
+                    // Only markup characters, as th:text does; non-ASCII text stays literal in the UTF-8 body.
+                    buffer.append(HtmlUtils.htmlEscape(value, "UTF-8"));
+                }
+            }
+        }
+        String rendered = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            buffers.remove();
+        }
+        return rendered;
+    }
+
+    private CompiledTemplate compile(EmailTemplateName template) {
+        String nonce = UUID.randomUUID().toString().replace("-", "");
+        Context context = new Context();
+        List<String> markers = new ArrayList<>();
+        for (String variable : template.getVariables()) {
+            String marker = "__tplvar_" + markers.size() + "_" + nonce + "__";
+            markers.add(marker);
+            context.setVariable(variable, marker);
+        }
+        String output = templateEngine.process(template.getName(), context);
+
+        List<Segment> segments = new ArrayList<>();
+        int position = 0;
+        while (position < output.length()) {
+            int next = -1;
+            int markerIndex = -1;
+            for (int i = 0; i < markers.size(); i++) {
+                int found = output.indexOf(markers.get(i), position);
+                if (found >= 0 && (next < 0 || found < next)) {
+                    next = found;
+                    markerIndex = i;
+                }
+            }
+            if (next < 0) {
+                segments.add(new Segment(output.substring(position), null));
+                break;
+            }
+            if (next > position) {
+                segments.add(new Segment(output.substring(position, next), null));
+            }
+            segments.add(new Segment(null, template.getVariables().get(markerIndex)));
+            position = next + markers.get(markerIndex).length();
+        }
+
+        long variableSegments = segments.stream().filter(s -> s.variable() != null).count();
+        boolean everyVariableOnce = variableSegments == markers.size() && segments.stream()
+                .filter(s -> s.variable() != null).map(Segment::variable).distinct().count() == markers.size();
+        return everyVariableOnce ? new CompiledTemplate(List.copyOf(segments)) : null;
+    }
+
+    private record Segment(String text, String variable) {
+    }
+
+    private record CompiledTemplate(List<Segment> segments) {
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.getmyuri.user_auth_service.service.email;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * {@link JavaMailSenderImpl} that sends over pooled, already authenticated SMTP
+ * connections instead of connecting for every {@code send} call.
+ */
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private SmtpConnectionPool pool;
+
+    public void setPool(SmtpConnectionPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Opens a new authenticated transport with the configured host, port and credentials.
+     */
+    public jakarta.mail.Transport openTransport() throws MessagingException {
+        return connectTransport();
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        SmtpConnectionPool.PooledConnection connection = pool.borrow();
+        boolean healthy = true;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                MimeMessage mimeMessage = mimeMessages[i];
+                try {
+                    prepare(mimeMessage);
+                    Address[] addresses = mimeMessage.getAllRecipients();
+                    long start = System.nanoTime();
+                    connection.getTransport().sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+                    connection.recordSend(System.nanoTime() - start);
+                } catch (MessagingException ex) {
+                    Object original = originalMessages != null ? originalMessages[i] : mimeMessage;
+                    failedMessages.put(original, ex);
+                    if (!connection.getTransport().isConnected()) {
+                        healthy = false;
+                        for (int j = i + 1; j < mimeMessages.length; j++) {
+                            failedMessages.put(originalMessages != null ? originalMessages[j] : mimeMessages[j], ex);
+                        }
+                        break;
+                    }
+                }
+            }
+        } finally {
+            pool.release(connection, healthy);
+        }
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    // Same header handling as JavaMailSenderImpl: keep an explicit Message-ID across saveChanges().
+    private static void prepare(MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader("Message-ID", messageId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.mailing.smtp-pool.eviction-interval:30000}")
+    public void evictIdleConnections() {
+        pool.evictIdle();
+    }
+
+    @Override
+    public void destroy() {
+        pool.closeAll();
+    }
+
+}
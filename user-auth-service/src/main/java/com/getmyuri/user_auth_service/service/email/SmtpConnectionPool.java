@@ -0,0 +1,187 @@
+package com.getmyuri.user_auth_service.service.email;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.mail.MailSendException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps up to {@code maxConnections} authenticated SMTP transports open so a send does
+ * not pay for TCP, STARTTLS and AUTH each time. Connections are health-checked (NOOP)
+ * when borrowed and closed after {@code maxMessagesPerConnection} messages or
+ * {@code maxIdle} without use. Each open connection holds a numbered slot, used as
+ * the metrics tag for per-connection throughput.
+ */
+@Slf4j
+public class SmtpConnectionPool {
+
+    @FunctionalInterface
+    public interface TransportFactory {
+        Transport connect() throws MessagingException;
+    }
+
+    private final TransportFactory transportFactory;
+    private final int maxMessagesPerConnection;
+    private final long maxIdleNanos;
+    private final long borrowTimeoutMillis;
+    private final MeterRegistry meterRegistry;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final BlockingQueue<Integer> freeSlots;
+    private final Counter opened;
+    private final Counter closed;
+
+    public SmtpConnectionPool(TransportFactory transportFactory, int maxConnections, int maxMessagesPerConnection,
+            Duration maxIdle, Duration borrowTimeout, MeterRegistry meterRegistry) {
+        this.transportFactory = transportFactory;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.borrowTimeoutMillis = borrowTimeout.toMillis();
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(maxConnections, true);
+        this.freeSlots = new ArrayBlockingQueue<>(maxConnections);
+        for (int slot = 0; slot < maxConnections; slot++) {
+            freeSlots.add(slot);
+        }
+        this.opened = meterRegistry.counter("smtp.pool.connections.opened");
+        this.closed = meterRegistry.counter("smtp.pool.connections.closed");
+        meterRegistry.gauge("smtp.pool.connections.idle", idle, BlockingQueue::size);
+        meterRegistry.gauge("smtp.pool.connections.active", permits,
+                p -> maxConnections - p.availablePermits());
+    }
+
+    public PooledConnection borrow() {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("No SMTP connection available within " + borrowTimeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for an SMTP connection", e);
+        }
+        try {
+            PooledConnection connection;
+            // Most recently used first, so surplus connections age out.
+            while ((connection = idle.pollFirst()) != null) {
+                if (connection.isReusable() && connection.transport.isConnected()) {
+                    return connection;
+                }
+                close(connection);
+            }
+            return open();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the connection to the pool, or closes it when it failed or is used up.
+     */
+    public void release(PooledConnection connection, boolean healthy) {
+        try {
+            if (healthy && connection.isReusable()) {
+                connection.lastUsedNanos = System.nanoTime();
+                idle.offerFirst(connection);
+            } else {
+                close(connection);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Closes connections that have been idle longer than {@code maxIdle}.
+     */
+    public void evictIdle() {
+        Iterator<PooledConnection> iterator = idle.descendingIterator();
+        while (iterator.hasNext()) {
+            PooledConnection connection = iterator.next();
+            if (!connection.isReusable() && idle.removeFirstOccurrence(connection)) {
+                close(connection);
+            }
+        }
+    }
+
+    public void closeAll() {
+        PooledConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            close(connection);
+        }
+    }
+
+    private PooledConnection open() {
+        Integer slot = freeSlots.poll();
+        if (slot == null) {
+            throw new IllegalStateException("SMTP connection slots exhausted");
+        }
+        try {
+            Transport transport = transportFactory.connect();
+            opened.increment();
+            return new PooledConnection(transport, slot);
+        } catch (MessagingException e) {
+            freeSlots.add(slot);
+            throw new MailSendException("Could not connect to the SMTP server", e);
+        }
+    }
+
+    private void close(PooledConnection connection) {
+        try {
+            connection.transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP connection in slot {}", connection.slot, e);
+        } finally {
+            closed.increment();
+            freeSlots.add(connection.slot);
+        }
+    }
+
+    public final class PooledConnection {
+
+        private final Transport transport;
+        private final int slot;
+        private final Counter messages;
+        private final Timer sendTimer;
+        private int sent;
+        private volatile long lastUsedNanos = System.nanoTime();
+
+        private PooledConnection(Transport transport, int slot) {
+            this.transport = transport;
+            this.slot = slot;
+            String tag = String.valueOf(slot);
+            this.messages = meterRegistry.counter("smtp.pool.messages", "connection", tag);
+            this.sendTimer = Timer.builder("smtp.pool.send")
+                    .tag("connection", tag)
+                    .register(meterRegistry);
+        }
+
+        public Transport getTransport() {
+            return transport;
+        }
+
+        public void recordSend(long nanos) {
+            sent++;
+            messages.increment();
+            sendTimer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        private boolean isReusable() {
+            return sent < maxMessagesPerConnection && System.nanoTime() - lastUsedNanos < maxIdleNanos;
+        }
+    }
+
+}
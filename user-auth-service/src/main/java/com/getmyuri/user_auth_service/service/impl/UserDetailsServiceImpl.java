@@ -1,25 +1,82 @@
 package com.getmyuri.user_auth_service.service.impl;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.getmyuri.user_auth_service.model.user.UserChangedEvent;
+import com.getmyuri.user_auth_service.model.user.UserSnapshot;
 import com.getmyuri.user_auth_service.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
 
 @Service
-@RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
-    
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
+
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    // Immutable snapshots, never managed entities; dropped on UserChangedEvent after commit.
+    private final Cache<String, UserSnapshot> userCache;
 
+    public UserDetailsServiceImpl(UserRepository userRepository, ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.user-cache.max-size:10000}") long maxSize,
+            @Value("${application.security.user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache, "userDetails");
+    }
 
+    // No transaction here: a cache hit touches no database state, and a miss is one projection query.
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String userEmail) throws UsernameNotFoundException {
-        return userRepository.findByEmail(userEmail).orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        return userCache.get(normalize(userEmail), email -> userRepository.findSnapshotByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found")));
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        int updated = userRepository.updatePassword(user.getUsername(), newPassword, LocalDateTime.now());
+        if (updated > 1) {
+            // Rolls back: the unique lower(email) index should make this impossible.
+            throw new IllegalStateException("Password update matched " + updated + " accounts");
+        }
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getUsername()));
+        if (user instanceof UserSnapshot snapshot) {
+            return snapshot.toBuilder().password(newPassword).build();
+        }
+        return user;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getEmail() == null) {
+            userCache.invalidateAll();
+        } else {
+            userCache.invalidate(normalize(event.getEmail()));
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
     }
 }
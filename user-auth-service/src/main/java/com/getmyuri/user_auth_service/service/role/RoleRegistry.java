@@ -0,0 +1,61 @@
+package com.getmyuri.user_auth_service.service.role;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.getmyuri.user_auth_service.model.role.Authorities;
+import com.getmyuri.user_auth_service.model.role.Role;
+import com.getmyuri.user_auth_service.model.role.RolesChangedEvent;
+import com.getmyuri.user_auth_service.model.user.UserChangedEvent;
+import com.getmyuri.user_auth_service.repository.RoleRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * In-memory view of the role table, reloaded on {@link RolesChangedEvent}, which
+ * {@code RoleInitializer} publishes at startup once the default roles exist.
+ * Anything that creates, renames or removes roles publishes it as well.
+ */
+@Service
+@RequiredArgsConstructor
+public class RoleRegistry {
+
+    private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Map<String, Role> rolesByName = Map.of();
+
+    /**
+     * Detached role, usable as a reference when saving a new user.
+     */
+    public Role getRole(String name) {
+        Role role = rolesByName.get(name);
+        if (role == null) {
+            refresh();
+            role = rolesByName.get(name);
+        }
+        if (role == null) {
+            throw new IllegalStateException("ROLE " + name + " was not initialized");
+        }
+        return role;
+    }
+
+    public void refresh() {
+        Map<String, Role> loaded = roleRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Role::getName, Function.identity()));
+        loaded.keySet().forEach(Authorities::of);
+        rolesByName = loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRolesChanged(RolesChangedEvent event) {
+        refresh();
+        eventPublisher.publishEvent(UserChangedEvent.allUsers());
+    }
+
+}
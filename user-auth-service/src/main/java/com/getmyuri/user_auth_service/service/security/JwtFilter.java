@@ -2,6 +2,7 @@ package com.getmyuri.user_auth_service.service.security;
 
 import java.io.IOException;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -11,8 +12,12 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Service;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.getmyuri.user_auth_service.model.auth.TokenPrincipal;
+import com.getmyuri.user_auth_service.model.auth.VerifiedClaims;
+import com.getmyuri.user_auth_service.model.role.Authorities;
 import com.getmyuri.user_auth_service.service.JwtService;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,8 +29,14 @@ import lombok.RequiredArgsConstructor;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
     private final UserDetailsService userDetailsService;
 
+    // When true the Authentication is built from the token claims alone, without a user lookup.
+    @Value("${application.security.jwt.stateless:false}")
+    private boolean stateless;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
@@ -36,20 +47,27 @@ public class JwtFilter extends OncePerRequestFilter {
         }
         final String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
         final String jwt;
-        final String userEmail;
+        final VerifiedClaims claims;
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities());
+        try {
+            claims = verifiedTokenCache.verify(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (tokenRevocationService.isRevoked(claims)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (claims.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UsernamePasswordAuthenticationToken authToken = stateless
+                    ? authenticateFromClaims(claims)
+                    : authenticateFromUserDetails(claims);
+            if (authToken != null) {
                 authToken.setDetails(
                         new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -59,4 +77,23 @@ public class JwtFilter extends OncePerRequestFilter {
 
     }
 
+    private UsernamePasswordAuthenticationToken authenticateFromClaims(VerifiedClaims claims) {
+        var authorities = claims.getAuthorities().stream()
+                .map(Authorities::of)
+                .toList();
+        var principal = new TokenPrincipal(claims.getSubject(), claims.getFullName(), authorities);
+        return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+    }
+
+    private UsernamePasswordAuthenticationToken authenticateFromUserDetails(VerifiedClaims claims) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        if (!jwtService.isTokenValid(claims, userDetails)) {
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities());
+    }
+
 }
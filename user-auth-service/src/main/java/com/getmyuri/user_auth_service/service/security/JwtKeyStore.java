@@ -0,0 +1,204 @@
+package com.getmyuri.user_auth_service.service.security;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.getmyuri.user_auth_service.config.JwtSigningProperties;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the key that signs new tokens and every key that may still verify them,
+ * indexed by {@code kid}. Public asymmetric keys are published as a JWKS.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(JwtSigningProperties.class)
+public class JwtKeyStore extends SigningKeyResolverAdapter {
+
+    @Getter
+    private final SignatureAlgorithm algorithm;
+    @Getter
+    private final String signingKeyId;
+    @Getter
+    private final Key signingKey;
+
+    private final Key legacySecretKey;
+    // Until when tokens without a kid may still be verified with legacySecretKey.
+    private final Instant legacySecretKeyUntil;
+    private final Map<String, Key> verificationKeys;
+    private final List<Map<String, Object>> jwks;
+
+    public JwtKeyStore(JwtSigningProperties properties,
+            @Value("${application.security.jwt.secret-key:}") String secretKey) {
+        this.algorithm = SignatureAlgorithm.forName(properties.getAlgorithm());
+        this.legacySecretKey = StringUtils.hasText(secretKey)
+                ? Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey))
+                : null;
+
+        if (algorithm.isHmac()) {
+            if (legacySecretKey == null) {
+                throw new IllegalStateException("application.security.jwt.secret-key is required for " + algorithm);
+            }
+            this.legacySecretKeyUntil = Instant.MAX;
+            this.signingKeyId = null;
+            this.signingKey = legacySecretKey;
+            this.verificationKeys = Map.of();
+            this.jwks = List.of();
+            return;
+        }
+        if (!algorithm.isRsa() && !algorithm.isEllipticCurve()) {
+            throw new IllegalStateException("Unsupported JWT signing algorithm " + algorithm);
+        }
+
+        Map<String, Key> publicKeys = new LinkedHashMap<>();
+        List<Map<String, Object>> publishedKeys = new ArrayList<>();
+        Key activeKey = null;
+        String activeKeyId = properties.getActiveKeyId();
+
+        // A generated key would differ per instance and per restart, invalidating every token and the JWKS.
+        if (properties.getKeys().isEmpty()) {
+            throw new IllegalStateException("application.security.jwt.signing.keys must be configured for " + algorithm);
+        }
+        for (JwtSigningProperties.KeyPair keyPair : properties.getKeys()) {
+            PublicKey publicKey = parsePublicKey(keyPair.getPublicKey());
+            publicKeys.put(keyPair.getId(), publicKey);
+            publishedKeys.add(toJwk(keyPair.getId(), publicKey));
+            if (keyPair.getId().equals(activeKeyId)) {
+                activeKey = parsePrivateKey(keyPair.getPrivateKey());
+            }
+        }
+        if (activeKey == null) {
+            throw new IllegalStateException("No private key configured for active JWT key '" + activeKeyId + "'");
+        }
+
+        this.legacySecretKeyUntil = legacySecretKey != null ? properties.getLegacyHmacUntil() : null;
+        if (legacySecretKeyUntil != null) {
+            log.warn("Accepting {} tokens without a key id, signed with the shared secret, until {}",
+                    SignatureAlgorithm.HS256, legacySecretKeyUntil);
+        }
+
+        this.signingKeyId = activeKeyId;
+        this.signingKey = activeKey;
+        this.verificationKeys = Collections.unmodifiableMap(publicKeys);
+        this.jwks = Collections.unmodifiableList(publishedKeys);
+    }
+
+    /**
+     * Public keys in JWK format, empty when tokens are signed with the shared secret.
+     */
+    public Map<String, Object> getJwkSet() {
+        return Map.of("keys", jwks);
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String keyId = header.getKeyId();
+        if (keyId == null) {
+            // Tokens issued before key ids were introduced are signed with the shared secret,
+            // accepted only while the configured migration window is open.
+            if (legacySecretKeyUntil == null || !Instant.now().isBefore(legacySecretKeyUntil)) {
+                throw new SignatureException("Token has no key id");
+            }
+            return legacySecretKey;
+        }
+        Key key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id " + keyId);
+        }
+        return key;
+    }
+
+    private PublicKey parsePublicKey(String encoded) {
+        try {
+            return keyFactory().generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid JWT public key", e);
+        }
+    }
+
+    private PrivateKey parsePrivateKey(String encoded) {
+        try {
+            return keyFactory().generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid JWT private key", e);
+        }
+    }
+
+    private KeyFactory keyFactory() throws GeneralSecurityException {
+        return KeyFactory.getInstance(algorithm.getFamilyName().equals("RSA") ? "RSA" : "EC");
+    }
+
+    private static byte[] decodePem(String encoded) {
+        if (!StringUtils.hasText(encoded)) {
+            throw new IllegalArgumentException("Key material is empty");
+        }
+        String base64 = encoded.replaceAll("-----(BEGIN|END)[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private Map<String, Object> toJwk(String keyId, PublicKey publicKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kid", keyId);
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getValue());
+        if (publicKey instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(unsigned(rsa.getModulus(), 0)));
+            jwk.put("e", base64Url(unsigned(rsa.getPublicExponent(), 0)));
+        } else if (publicKey instanceof ECPublicKey ec) {
+            int fieldSize = ec.getParams().getCurve().getField().getFieldSize();
+            int length = (fieldSize + 7) / 8;
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-" + fieldSize);
+            jwk.put("x", base64Url(unsigned(ec.getW().getAffineX(), length)));
+            jwk.put("y", base64Url(unsigned(ec.getW().getAffineY(), length)));
+        }
+        return jwk;
+    }
+
+    /**
+     * Big-endian magnitude without the sign byte, left-padded to {@code length} when positive.
+     */
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        int start = bytes.length > 1 && bytes[0] == 0 ? 1 : 0;
+        int size = Math.max(bytes.length - start, length);
+        byte[] result = new byte[size];
+        System.arraycopy(bytes, start, result, size - (bytes.length - start), bytes.length - start);
+        return result;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.getmyuri.user_auth_service.service.security;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.stereotype.Component;
+
+import com.getmyuri.user_auth_service.model.user.UserChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind store for {@code lastLoginAt} and {@code failedLoginAttempts}. Login
+ * outcomes are accumulated per email in a {@link ConcurrentHashMap}, whose per-bin
+ * locking keeps concurrent logins for different users from contending, and flushed
+ * periodically in one JDBC batch. The flush also sets {@code lockedUntil} once a
+ * user reaches the failure threshold, so a temporary lock takes effect within one
+ * flush interval; failures still pending in memory are checked directly. Entries of
+ * a failed flush are merged back and retried with the next one.
+ */
+@Slf4j
+@Component
+public class LoginActivityTracker {
+
+    // SET expressions all see the row as it was before the update.
+    private static final String FLUSH_SQL = """
+            update _user set
+                last_login_at = coalesce(?, last_login_at),
+                locked_until = case
+                    when (case when ? then 0 else failed_login_attempts end) + ? >= ? then ?
+                    else locked_until end,
+                failed_login_attempts = case
+                    when (case when ? then 0 else failed_login_attempts end) + ? >= ? then 0
+                    else (case when ? then 0 else failed_login_attempts end) + ? end
+            where lower(email) = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConcurrentHashMap<String, Pending> pending = new ConcurrentHashMap<>();
+    private final int lockThreshold;
+    private final Duration lockDuration;
+    private final int maxPending;
+    private final Counter flushed;
+    private final Counter dropped;
+    private final Timer flushTimer;
+
+    public LoginActivityTracker(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.login-activity.lock-threshold:10}") int lockThreshold,
+            @Value("${application.security.login-activity.lock-minutes:15}") long lockMinutes,
+            @Value("${application.security.login-activity.max-pending:100000}") int maxPending) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.lockThreshold = lockThreshold;
+        this.lockDuration = Duration.ofMinutes(lockMinutes);
+        this.maxPending = maxPending;
+        this.flushed = meterRegistry.counter("login.activity.flushed");
+        this.dropped = meterRegistry.counter("login.activity.dropped");
+        this.flushTimer = Timer.builder("login.activity.flush.duration")
+                .description("Time taken to write pending login activity")
+                .register(meterRegistry);
+        meterRegistry.gauge("login.activity.pending", pending, ConcurrentHashMap::size);
+    }
+
+    /**
+     * Rejects the attempt when the failures not yet flushed already reach the threshold.
+     */
+    public void checkNotLocked(String email) {
+        Pending entry = pending.get(normalize(email));
+        if (entry != null && entry.failuresAtLeast(lockThreshold)) {
+            throw new LockedException("User account is locked");
+        }
+    }
+
+    public void recordSuccess(String email) {
+        record(email, Pending::success);
+    }
+
+    public void recordFailure(String email) {
+        record(email, Pending::failure);
+    }
+
+    // All mutation happens inside compute, under the map's lock for that key's bin,
+    // so an entry removed by flush() is never modified afterwards.
+    private void record(String email, Consumer<Pending> update) {
+        String key = normalize(email);
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            dropped.increment();
+            return;
+        }
+        pending.compute(key, (k, entry) -> {
+            Pending next = entry != null ? entry : new Pending();
+            update.accept(next);
+            return next;
+        });
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${application.security.login-activity.flush-interval:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        Timestamp lockedUntil = Timestamp.valueOf(LocalDateTime.now().plus(lockDuration));
+        Map<String, Pending> drained = new HashMap<>();
+        // Cached snapshots of users with new failures may now carry a stale lock state.
+        List<String> changed = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+        for (String email : pending.keySet()) {
+            Pending entry = pending.remove(email);
+            if (entry == null) {
+                continue;
+            }
+            drained.put(email, entry);
+            if (entry.failures > 0) {
+                changed.add(email);
+            }
+            batch.add(new Object[] {
+                    entry.lastLoginAt == null ? null : Timestamp.valueOf(entry.lastLoginAt),
+                    entry.resetFailures, entry.failures, lockThreshold, lockedUntil,
+                    entry.resetFailures, entry.failures, lockThreshold,
+                    entry.resetFailures, entry.failures,
+                    email });
+        }
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            flushed.increment(batch.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to write login activity for {} users, retrying with the next flush",
+                    batch.size(), e);
+            drained.forEach((email, entry) -> pending.merge(email, entry, (current, older) -> {
+                current.absorbOlder(older);
+                return current;
+            }));
+            return;
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        changed.forEach(email -> eventPublisher.publishEvent(UserChangedEvent.of(email)));
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Pending {
+
+        private LocalDateTime lastLoginAt;
+        // Failures since the last successful login, or since the last flush if none.
+        private volatile int failures;
+        private boolean resetFailures;
+
+        void success() {
+            lastLoginAt = LocalDateTime.now();
+            failures = 0;
+            resetFailures = true;
+        }
+
+        void failure() {
+            failures++;
+        }
+
+        // Folds in activity from before this entry; a later success supersedes earlier failures.
+        void absorbOlder(Pending older) {
+            if (resetFailures) {
+                return;
+            }
+            failures += older.failures;
+            resetFailures = older.resetFailures;
+            if (lastLoginAt == null) {
+                lastLoginAt = older.lastLoginAt;
+            }
+        }
+
+        boolean failuresAtLeast(int threshold) {
+            return failures >= threshold;
+        }
+
+    }
+
+}
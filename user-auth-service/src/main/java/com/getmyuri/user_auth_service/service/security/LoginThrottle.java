@@ -0,0 +1,106 @@
+package com.getmyuri.user_auth_service.service.security;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.getmyuri.user_auth_service.common.util.Gcra;
+import com.getmyuri.user_auth_service.model.exception.BusinessErrorCodes;
+import com.getmyuri.user_auth_service.model.exception.BusinessException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-email and per-client-IP rate limit on login attempts, checked before the
+ * password is verified so that brute-force and credential-stuffing traffic is
+ * rejected without spending a hash. Buckets live in bounded Caffeine caches and
+ * are dropped once idle for a full period, when they would be full again anyway.
+ * Email availability lookups get their own per-IP limit, since each one reveals
+ * whether an address is registered.
+ */
+@Component
+public class LoginThrottle {
+
+    private final boolean enabled;
+    private final Limiter byEmail;
+    private final Limiter byIp;
+    private final Limiter emailLookupByIp;
+
+    public LoginThrottle(MeterRegistry meterRegistry,
+            @Value("${application.security.login-throttle.enabled:true}") boolean enabled,
+            @Value("${application.security.login-throttle.max-keys:100000}") long maxKeys,
+            @Value("${application.security.login-throttle.email.limit:5}") int emailLimit,
+            @Value("${application.security.login-throttle.email.period-seconds:60}") long emailPeriodSeconds,
+            @Value("${application.security.login-throttle.ip.limit:50}") int ipLimit,
+            @Value("${application.security.login-throttle.ip.period-seconds:60}") long ipPeriodSeconds,
+            @Value("${application.security.login-throttle.email-lookup.limit:20}") int emailLookupLimit,
+            @Value("${application.security.login-throttle.email-lookup.period-seconds:60}") long emailLookupPeriodSeconds) {
+        this.enabled = enabled;
+        this.byEmail = new Limiter(emailLimit, Duration.ofSeconds(emailPeriodSeconds), maxKeys,
+                meterRegistry.counter("login.throttle.rejected", "key", "email"));
+        this.byIp = new Limiter(ipLimit, Duration.ofSeconds(ipPeriodSeconds), maxKeys,
+                meterRegistry.counter("login.throttle.rejected", "key", "ip"));
+        this.emailLookupByIp = new Limiter(emailLookupLimit, Duration.ofSeconds(emailLookupPeriodSeconds), maxKeys,
+                meterRegistry.counter("login.throttle.rejected", "key", "email-lookup"));
+    }
+
+    /**
+     * Counts one login attempt.
+     *
+     * @throws BusinessException with {@link BusinessErrorCodes#TOO_MANY_LOGIN_ATTEMPTS} once either limit is exceeded
+     */
+    public void acquire(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        if ((clientIp != null && !byIp.tryAcquire(clientIp, now))
+                || (email != null && !byEmail.tryAcquire(email.toLowerCase(Locale.ROOT), now))) {
+            throw new BusinessException(BusinessErrorCodes.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    /**
+     * Counts one email availability lookup.
+     *
+     * @throws BusinessException with {@link BusinessErrorCodes#TOO_MANY_EMAIL_LOOKUPS} once the per-IP limit is exceeded
+     */
+    public void acquireEmailLookup(String clientIp) {
+        if (enabled && clientIp != null && !emailLookupByIp.tryAcquire(clientIp, System.nanoTime())) {
+            throw new BusinessException(BusinessErrorCodes.TOO_MANY_EMAIL_LOOKUPS);
+        }
+    }
+
+    private static final class Limiter {
+
+        private final Gcra gcra;
+        private final Cache<String, AtomicLong> buckets;
+        private final Counter rejected;
+
+        Limiter(int limit, Duration period, long maxKeys, Counter rejected) {
+            this.gcra = new Gcra(limit, period);
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterAccess(period)
+                    .build();
+            this.rejected = rejected;
+        }
+
+        boolean tryAcquire(String key, long now) {
+            AtomicLong bucket = buckets.get(key, k -> gcra.newState(now));
+            if (gcra.tryAcquire(bucket, now)) {
+                return true;
+            }
+            rejected.increment();
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.getmyuri.user_auth_service.service.security;
+
+import java.util.function.IntFunction;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Picks the highest hashing cost whose verification still fits a target time on the
+ * current hardware. Used at startup when calibration is enabled, or from the command
+ * line: {@code java -cp <app classpath> ...PasswordHashCalibrator [targetMillis]}.
+ */
+@Slf4j
+public final class PasswordHashCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Passw0rd";
+    private static final int SAMPLES = 3;
+
+    public static final int MIN_BCRYPT_STRENGTH = 10;
+    public static final int MAX_BCRYPT_STRENGTH = 16;
+    public static final int MAX_ARGON2_ITERATIONS = 10;
+
+    private PasswordHashCalibrator() {
+    }
+
+    public static int bcryptStrength(long targetMillis) {
+        return calibrate("bcrypt strength", MIN_BCRYPT_STRENGTH, MAX_BCRYPT_STRENGTH, targetMillis,
+                BCryptPasswordEncoder::new);
+    }
+
+    public static int argon2Iterations(long targetMillis, int saltLength, int hashLength, int parallelism,
+            int memoryKib) {
+        return calibrate("argon2 iterations", 1, MAX_ARGON2_ITERATIONS, targetMillis,
+                iterations -> new Argon2PasswordEncoder(saltLength, hashLength, parallelism, memoryKib, iterations));
+    }
+
+    private static int calibrate(String parameter, int min, int max, long targetMillis,
+            IntFunction<PasswordEncoder> encoderForCost) {
+        int chosen = min;
+        for (int cost = min; cost <= max; cost++) {
+            long millis = verificationMillis(encoderForCost.apply(cost));
+            log.info("Password hash calibration: {} {} verifies in {} ms", parameter, cost, millis);
+            if (millis > targetMillis) {
+                break;
+            }
+            chosen = cost;
+        }
+        log.info("Password hash calibration: using {} {} for a {} ms target", parameter, chosen, targetMillis);
+        return chosen;
+    }
+
+    private static long verificationMillis(PasswordEncoder encoder) {
+        String hash = encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, hash);
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+        }
+        return best;
+    }
+
+    public static void main(String[] args) {
+        long targetMillis = args.length > 0 ? Long.parseLong(args[0]) : 250;
+        System.out.println("bcrypt strength: " + bcryptStrength(targetMillis));
+        System.out.println("argon2 iterations (16/32/1/19456): " + argon2Iterations(targetMillis, 16, 32, 1, 19456));
+    }
+
+}
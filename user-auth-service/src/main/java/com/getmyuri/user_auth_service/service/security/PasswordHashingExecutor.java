@@ -0,0 +1,101 @@
+package com.getmyuri.user_auth_service.service.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.getmyuri.user_auth_service.model.exception.BusinessErrorCodes;
+import com.getmyuri.user_auth_service.model.exception.BusinessException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bounded pool, one thread per core by default, on which all password hashing and
+ * verification runs. Work that does not fit in the queue is rejected immediately
+ * with {@link BusinessErrorCodes#PASSWORD_HASHING_OVERLOADED} rather than waiting.
+ * <p>
+ * The pool always uses platform threads, also when request handling runs on virtual
+ * threads: hashing is CPU-bound, and the waiting virtual thread unmounts on
+ * {@link Future#get} instead of occupying a carrier.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Timer waitTimer;
+    private final Timer hashTimer;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+            @Value("${application.security.password-hashing.threads:0}") int threads,
+            @Value("${application.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${application.security.password-hashing.timeout-millis:5000}") long timeoutMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        this.waitTimer = Timer.builder("password.hashing.wait")
+                .description("Time a hashing task spent queued")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("password.hashing.duration")
+                .description("Time spent hashing or verifying a password")
+                .register(meterRegistry);
+        this.rejected = meterRegistry.counter("password.hashing.rejected");
+        meterRegistry.gauge("password.hashing.queue.size", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    /**
+     * Runs the task on the hashing pool and waits for its result.
+     */
+    public <T> T execute(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        final Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new BusinessException(BusinessErrorCodes.PASSWORD_HASHING_OVERLOADED);
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new BusinessException(BusinessErrorCodes.PASSWORD_HASHING_OVERLOADED);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(BusinessErrorCodes.PASSWORD_HASHING_OVERLOADED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+}
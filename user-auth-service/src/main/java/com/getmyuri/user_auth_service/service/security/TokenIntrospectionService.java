@@ -0,0 +1,123 @@
+package com.getmyuri.user_auth_service.service.security;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.getmyuri.user_auth_service.model.auth.IntrospectionResult;
+import com.getmyuri.user_auth_service.model.auth.VerifiedClaims;
+import com.getmyuri.user_auth_service.model.exception.BusinessErrorCodes;
+import com.getmyuri.user_auth_service.model.exception.BusinessException;
+
+import io.jsonwebtoken.JwtException;
+
+@Service
+public class TokenIntrospectionService {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final ObjectMapper objectMapper;
+    // Bounded and separate from the common pool, since revocation checks block on the database.
+    private final Executor introspectionExecutor;
+    // Flushing is left to the generator's buffer instead of once per result.
+    private final ObjectWriter resultWriter;
+
+    @Value("${application.security.introspection.max-batch-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${application.security.introspection.max-in-flight:16}")
+    private int maxInFlight;
+
+    public TokenIntrospectionService(VerifiedTokenCache verifiedTokenCache,
+            TokenRevocationService tokenRevocationService, ObjectMapper objectMapper,
+            @Qualifier("introspectionExecutor") Executor introspectionExecutor) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.objectMapper = objectMapper;
+        this.introspectionExecutor = introspectionExecutor;
+        this.resultWriter = objectMapper.writerFor(IntrospectionResult.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void checkBatchSize(List<String> tokens) {
+        if (tokens.size() > maxBatchSize) {
+            throw new BusinessException(BusinessErrorCodes.INTROSPECTION_BATCH_TOO_LARGE,
+                    "At most " + maxBatchSize + " tokens can be introspected at once");
+        }
+    }
+
+    public IntrospectionResult introspect(String token) {
+        final VerifiedClaims claims;
+        try {
+            claims = verifiedTokenCache.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return IntrospectionResult.inactive();
+        }
+        if (tokenRevocationService.isRevoked(claims)) {
+            return IntrospectionResult.inactive();
+        }
+        return IntrospectionResult.builder()
+                .active(true)
+                .subject(claims.getSubject())
+                .authorities(claims.getAuthorities())
+                .expiresAt(claims.getExpiresAt() == null ? null : claims.getExpiresAt().getEpochSecond())
+                .build();
+    }
+
+    /**
+     * Verifies the tokens concurrently on the introspection executor and writes
+     * {@code {"results":[...]}} in request order. At most {@code max-in-flight} tokens of
+     * a request are submitted at a time; each result is serialized as soon as it and its
+     * predecessors are done, which frees a slot for the next token.
+     */
+    public void introspect(List<String> tokens, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("results");
+            Deque<CompletableFuture<IntrospectionResult>> inFlight = new ArrayDeque<>(maxInFlight);
+            Iterator<String> pending = tokens.iterator();
+            try {
+                while (pending.hasNext() || !inFlight.isEmpty()) {
+                    while (pending.hasNext() && inFlight.size() < maxInFlight) {
+                        String token = pending.next();
+                        inFlight.addLast(CompletableFuture.supplyAsync(() -> introspect(token), introspectionExecutor));
+                    }
+                    write(generator, inFlight.removeFirst().join());
+                }
+            } catch (UncheckedIOException e) {
+                inFlight.forEach(result -> result.cancel(false));
+                throw e.getCause();
+            } catch (CompletionException e) {
+                inFlight.forEach(result -> result.cancel(false));
+                throw e;
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private void write(JsonGenerator generator, IntrospectionResult result) {
+        try {
+            resultWriter.writeValue(generator, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
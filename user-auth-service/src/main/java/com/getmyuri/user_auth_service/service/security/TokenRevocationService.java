@@ -0,0 +1,132 @@
+package com.getmyuri.user_auth_service.service.security;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.getmyuri.user_auth_service.common.util.BloomFilter;
+import com.getmyuri.user_auth_service.model.auth.VerifiedClaims;
+import com.getmyuri.user_auth_service.model.user.RevokedToken;
+import com.getmyuri.user_auth_service.repository.RevokedTokenRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Revocation list for access tokens, persisted in Postgres. A Bloom filter of the
+ * revoked jti values answers the common "not revoked" case without a query; only
+ * possible hits are confirmed against the table. The filter is rebuilt periodically,
+ * which also drops entries whose token has expired and picks up revocations made by
+ * other instances.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedRevocations;
+    private final double falsePositiveProbability;
+    private final Counter filterHits;
+    private final Counter confirmedRevocations;
+
+    private volatile BloomFilter filter;
+    // Non-null while a rebuild is loading, so concurrent revocations land in both filters.
+    private volatile BloomFilter rebuilding;
+    private final AtomicLong filterSize = new AtomicLong();
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${application.security.jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+            @Value("${application.security.jwt.revocation.false-positive-probability:0.001}") double falsePositiveProbability) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.filter = BloomFilter.create(expectedRevocations, falsePositiveProbability);
+        this.filterHits = meterRegistry.counter("token.revocation.filter.hits");
+        this.confirmedRevocations = meterRegistry.counter("token.revocation.confirmed");
+        meterRegistry.gauge("token.revocation.filter.size", filterSize);
+    }
+
+    public boolean isRevoked(VerifiedClaims claims) {
+        String tokenId = claims.getTokenId();
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        filterHits.increment();
+        boolean revoked = revokedTokenRepository.existsById(tokenId);
+        if (revoked) {
+            confirmedRevocations.increment();
+        }
+        return revoked;
+    }
+
+    public void revoke(VerifiedClaims claims) {
+        if (claims.getTokenId() == null) {
+            return;
+        }
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(claims.getTokenId())
+                .revokedAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.ofInstant(claims.getExpiresAt(), ZoneId.systemDefault()))
+                .build());
+        // Added only once the row is committed, so a rebuild that reads the table before then
+        // still receives it through the rebuilding filter instead of dropping it.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addToFilter(claims.getTokenId());
+                }
+            });
+        } else {
+            addToFilter(claims.getTokenId());
+        }
+    }
+
+    // Reads rebuilding before filter: a rebuild seen as finished has already swapped in its filter.
+    private void addToFilter(String tokenId) {
+        BloomFilter pending = rebuilding;
+        filter.put(tokenId);
+        if (pending != null) {
+            pending.put(tokenId);
+        }
+        filterSize.incrementAndGet();
+    }
+
+    @PostConstruct
+    @Scheduled(initialDelayString = "${application.security.jwt.revocation.rebuild-interval:60000}",
+            fixedDelayString = "${application.security.jwt.revocation.rebuild-interval:60000}")
+    public void rebuild() {
+        BloomFilter next = BloomFilter.create(expectedRevocations, falsePositiveProbability);
+        rebuilding = next;
+        try {
+            long loaded = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                int purged = revokedTokenRepository.deleteExpired(now);
+                if (purged > 0) {
+                    log.info("Purged {} expired token revocations", purged);
+                }
+                try (var tokenIds = revokedTokenRepository.streamActiveTokenIds(now)) {
+                    return tokenIds.peek(next::put).count();
+                }
+            });
+            filter = next;
+            filterSize.set(loaded);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.getmyuri.user_auth_service.service.security;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.getmyuri.user_auth_service.common.util.Hashing;
+import com.getmyuri.user_auth_service.model.auth.VerifiedClaims;
+import com.getmyuri.user_auth_service.service.JwtService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache of already verified bearer tokens, keyed by the SHA-256 digest
+ * of the compact token so raw tokens are never retained. Entries expire no later
+ * than the token's {@code exp} claim.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "verifiedTokens";
+
+    private final JwtService jwtService;
+    private final boolean enabled;
+    private final Cache<String, VerifiedClaims> cache;
+
+    public VerifiedTokenCache(JwtService jwtService, MeterRegistry meterRegistry,
+            @Value("${application.security.jwt.cache.enabled:true}") boolean enabled,
+            @Value("${application.security.jwt.cache.max-size:10000}") long maxSize) {
+        this.jwtService = jwtService;
+        this.enabled = enabled;
+        // Caffeine uses W-TinyLFU eviction and striped buffers, so reads never contend on one lock.
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the verified claims of the token, checking the signature only on a cache miss.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is not valid
+     */
+    public VerifiedClaims verify(String token) {
+        if (!enabled) {
+            return jwtService.verifyToken(token);
+        }
+        return cache.get(Hashing.sha256(token), key -> jwtService.verifyToken(token));
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(Hashing.sha256(token));
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedClaims claims, long currentTime) {
+            if (claims.getExpiresAt() == null) {
+                return 0;
+            }
+            long remaining = Duration.between(Instant.now(), claims.getExpiresAt()).toNanos();
+            return Math.max(0, remaining);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedClaims claims, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedClaims claims, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.getmyuri.user_auth_service.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void admitsUpToLimitAndReleasesSlots() {
+        var limiter = new AdaptiveConcurrencyLimit(3, 1, 10);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(3);
+
+        limiter.release(FAST, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void growsWhileLatencyStaysAtBaseline() {
+        var limiter = new AdaptiveConcurrencyLimit(10, 1, 1000);
+
+        runWindows(limiter, FAST, 20);
+
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    void doesNotGrowWhileMostCapacityIsUnused() {
+        var limiter = new AdaptiveConcurrencyLimit(10, 1, 1000);
+
+        // One request at a time never uses half of the limit.
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void shrinksWhenLatencyRisesAboveBaseline() {
+        var limiter = new AdaptiveConcurrencyLimit(50, 1, 1000);
+        runWindows(limiter, FAST, 5);
+        int beforeSlowdown = limiter.getLimit();
+
+        runWindows(limiter, SLOW, 10);
+
+        assertThat(limiter.getLimit()).isLessThan(beforeSlowdown);
+    }
+
+    @Test
+    void dropMultipliesLimitByBackoffRatio() {
+        var limiter = new AdaptiveConcurrencyLimit(100, 1, 1000);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+
+        assertThat(limiter.getLimit()).isEqualTo(90);
+    }
+
+    @Test
+    void staysWithinMinAndMax() {
+        var limiter = new AdaptiveConcurrencyLimit(10, 5, 12);
+        runWindows(limiter, FAST, 50);
+        assertThat(limiter.getLimit()).isEqualTo(12);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, true);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    // Each window fills the current limit and releases every request with the given latency,
+    // repeated until one sample window (50 releases) has been recorded.
+    private static void runWindows(AdaptiveConcurrencyLimit limiter, long rttNanos, int windows) {
+        for (int w = 0; w < windows; w++) {
+            int released = 0;
+            while (released < 50) {
+                int acquired = 0;
+                while (limiter.tryAcquire()) {
+                    acquired++;
+                }
+                for (int i = 0; i < acquired; i++) {
+                    limiter.release(rttNanos, false);
+                }
+                released += acquired;
+            }
+        }
+    }
+
+}
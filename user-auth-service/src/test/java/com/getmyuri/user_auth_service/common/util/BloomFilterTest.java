@@ -0,0 +1,69 @@
+package com.getmyuri.user_auth_service.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 100_000;
+
+    @Test
+    void neverReportsAnInsertedValueAsAbsent() {
+        var filter = BloomFilter.create(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredProbability() {
+        assertFalsePositiveRate(0.01);
+        assertFalsePositiveRate(0.001);
+    }
+
+    @Test
+    void putReportsWhetherTheValueWasNew() {
+        var filter = BloomFilter.create(1000, 0.01);
+
+        assertThat(filter.put("alice@example.com")).isTrue();
+        assertThat(filter.put("alice@example.com")).isFalse();
+        assertThat(filter.mightContain("alice@example.com")).isTrue();
+    }
+
+    @Test
+    void rejectsProbabilityOutsideTheOpenUnitInterval() {
+        assertThatThrownBy(() -> BloomFilter.create(1000, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(1000, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(1000, Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsFiltersBeyondTheSupportedSize() {
+        assertThatThrownBy(() -> BloomFilter.create(Long.MAX_VALUE / 2, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertFalsePositiveRate(double probability) {
+        var filter = BloomFilter.create(INSERTIONS, probability);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        int falsePositives = 0;
+        int probes = 200_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("other" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(probability * 1.5);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.getmyuri.user_auth_service.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class GcraTest {
+
+    // 5 per minute: one request every 12 seconds, bursts of up to 5.
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(12);
+
+    private final Gcra gcra = new Gcra(5, Duration.ofMinutes(1));
+
+    @Test
+    void allowsBurstOfLimitThenRejects() {
+        long now = 1_000_000_000L;
+        AtomicLong state = gcra.newState(now);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(gcra.tryAcquire(state, now)).as("request %d", i).isTrue();
+        }
+        assertThat(gcra.tryAcquire(state, now)).isFalse();
+    }
+
+    @Test
+    void refillsOneRequestPerEmissionInterval() {
+        long now = 1_000_000_000L;
+        AtomicLong state = gcra.newState(now);
+        for (int i = 0; i < 5; i++) {
+            gcra.tryAcquire(state, now);
+        }
+
+        assertThat(gcra.tryAcquire(state, now + INTERVAL - 1)).isFalse();
+        assertThat(gcra.tryAcquire(state, now + INTERVAL)).isTrue();
+        assertThat(gcra.tryAcquire(state, now + INTERVAL)).isFalse();
+        assertThat(gcra.tryAcquire(state, now + 2 * INTERVAL)).isTrue();
+    }
+
+    @Test
+    void rejectedRequestsDoNotConsumeCapacity() {
+        long now = 1_000_000_000L;
+        AtomicLong state = gcra.newState(now);
+        for (int i = 0; i < 5; i++) {
+            gcra.tryAcquire(state, now);
+        }
+        for (int i = 0; i < 100; i++) {
+            gcra.tryAcquire(state, now);
+        }
+
+        assertThat(gcra.tryAcquire(state, now + INTERVAL)).isTrue();
+    }
+
+    @Test
+    void idleForFullPeriodRestoresFullBurst() {
+        long now = 1_000_000_000L;
+        AtomicLong state = gcra.newState(now);
+        for (int i = 0; i < 5; i++) {
+            gcra.tryAcquire(state, now);
+        }
+
+        long later = now + TimeUnit.HOURS.toNanos(1);
+        for (int i = 0; i < 5; i++) {
+            assertThat(gcra.tryAcquire(state, later)).as("request %d", i).isTrue();
+        }
+        assertThat(gcra.tryAcquire(state, later)).isFalse();
+    }
+
+    @Test
+    void handlesNanoTimeOverflow() {
+        long now = Long.MAX_VALUE - INTERVAL / 2;
+        AtomicLong state = gcra.newState(now);
+        for (int i = 0; i < 5; i++) {
+            assertThat(gcra.tryAcquire(state, now)).isTrue();
+        }
+        assertThat(gcra.tryAcquire(state, now)).isFalse();
+
+        assertThat(gcra.tryAcquire(state, now + INTERVAL)).isTrue();
+    }
+
+    @Test
+    void rejectsNonPositiveLimit() {
+        assertThatThrownBy(() -> new Gcra(0, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.getmyuri.user_auth_service.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.getmyuri.user_auth_service.model.exception.BusinessErrorCodes;
+import com.getmyuri.user_auth_service.model.exception.BusinessException;
+import com.getmyuri.user_auth_service.model.idempotency.IdempotencyRecord;
+import com.getmyuri.user_auth_service.repository.IdempotencyRecordRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class IdempotencyServiceTest {
+
+    private static final int CREATED = HttpStatus.CREATED.value();
+
+    private final Map<String, IdempotencyRecord> stored = new HashMap<>();
+    private IdempotencyRecordRepository recordRepository;
+    private IdempotencyService service;
+    private AtomicInteger runs;
+
+    @BeforeEach
+    void setUp() {
+        recordRepository = mock(IdempotencyRecordRepository.class);
+        when(recordRepository.findById(anyString()))
+                .thenAnswer(inv -> Optional.ofNullable(stored.get(inv.<String>getArgument(0))));
+        when(recordRepository.save(any(IdempotencyRecord.class))).thenAnswer(inv -> {
+            IdempotencyRecord record = inv.getArgument(0);
+            stored.put(record.getIdempotencyKey(), record);
+            return record;
+        });
+        service = newService();
+        runs = new AtomicInteger();
+    }
+
+    @Test
+    void firstRequestRunsTheOperation() {
+        var outcome = service.execute("register", "key-1", "fp", CREATED, countingAction());
+
+        assertThat(outcome.getStatus()).isEqualTo(CREATED);
+        assertThat(outcome.isReplayed()).isFalse();
+        assertThat(runs).hasValue(1);
+        assertThat(stored).containsKey("register:key-1");
+    }
+
+    @Test
+    void retryWithSameKeyIsReplayed() {
+        service.execute("register", "key-1", "fp", CREATED, countingAction());
+
+        var outcome = service.execute("register", "key-1", "fp", CREATED, countingAction());
+
+        assertThat(outcome.isReplayed()).isTrue();
+        assertThat(outcome.getStatus()).isEqualTo(CREATED);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void retryOnAnotherInstanceIsReplayedFromTheDatabase() {
+        service.execute("register", "key-1", "fp", CREATED, countingAction());
+
+        var outcome = newService().execute("register", "key-1", "fp", CREATED, countingAction());
+
+        assertThat(outcome.isReplayed()).isTrue();
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void expiredRecordDoesNotReplay() {
+        LocalDateTime past = LocalDateTime.now().minusDays(2);
+        stored.put("register:key-1", IdempotencyRecord.builder()
+                .idempotencyKey("register:key-1")
+                .fingerprint("fp")
+                .responseStatus(CREATED)
+                .createdAt(past)
+                .expiresAt(past.plusHours(24))
+                .build());
+
+        var outcome = service.execute("register", "key-1", "fp", CREATED, countingAction());
+
+        assertThat(outcome.isReplayed()).isFalse();
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void keyReusedForDifferentRequestIsRejected() {
+        service.execute("register", "key-1", "fp", CREATED, countingAction());
+
+        assertThatThrownBy(() -> service.execute("register", "key-1", "other-fp", CREATED, countingAction()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(BusinessErrorCodes.IDEMPOTENCY_KEY_REUSED);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void keysAreScopedToTheOperation() {
+        service.execute("register", "key-1", "fp", CREATED, countingAction());
+
+        var outcome = service.execute("resend", "key-1", "fp", CREATED, countingAction());
+
+        assertThat(outcome.isReplayed()).isFalse();
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void failedOperationReleasesTheKey() {
+        assertThatThrownBy(() -> service.execute("register", "key-1", "fp", CREATED, recordKey -> {
+            throw new IllegalArgumentException("boom");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        var outcome = service.execute("register", "key-1", "fp", CREATED, countingAction());
+
+        assertThat(outcome.isReplayed()).isFalse();
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void operationThatNeverRecordsTheKeyFails() {
+        assertThatThrownBy(() -> service.execute("register", "key-1", "fp", CREATED, recordKey -> {
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(recordRepository, never()).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void blankOrOversizedKeyIsRejected() {
+        assertThatThrownBy(() -> service.execute("register", " ", "fp", CREATED, countingAction()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(BusinessErrorCodes.INVALID_IDEMPOTENCY_KEY);
+        assertThatThrownBy(() -> service.execute("register", "k".repeat(201), "fp", CREATED, countingAction()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(BusinessErrorCodes.INVALID_IDEMPOTENCY_KEY);
+        assertThat(runs).hasValue(0);
+    }
+
+    private Consumer<Runnable> countingAction() {
+        return recordKey -> {
+            runs.incrementAndGet();
+            recordKey.run();
+        };
+    }
+
+    private IdempotencyService newService() {
+        return new IdempotencyService(recordRepository, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), 1000, 24, 1000);
+    }
+
+}
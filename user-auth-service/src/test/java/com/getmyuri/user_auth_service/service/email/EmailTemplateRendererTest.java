@@ -0,0 +1,85 @@
+package com.getmyuri.user_auth_service.service.email;
+
+import static com.getmyuri.user_auth_service.common.constants.EmailConstants.ACTIVATION_CODE;
+import static com.getmyuri.user_auth_service.common.constants.EmailConstants.CONFIRMATION_URL;
+import static com.getmyuri.user_auth_service.common.constants.EmailConstants.USERNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.getmyuri.user_auth_service.model.email.EmailTemplateName;
+
+class EmailTemplateRendererTest {
+
+    private SpringTemplateEngine templateEngine;
+    private EmailTemplateRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        var resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        renderer = new EmailTemplateRenderer(templateEngine);
+        renderer.warmUp();
+    }
+
+    @Test
+    void escapesMarkupInVariables() {
+        String html = renderer.render(EmailTemplateName.ACTIVATE_ACCOUNT, Map.of(
+                USERNAME, "<script>alert('x')</script> & \"co\"",
+                CONFIRMATION_URL, "https://example.com/activate?a=1&b=\"2\"",
+                ACTIVATION_CODE, "123456"));
+
+        assertThat(html)
+                .contains("&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; &quot;co&quot;")
+                .contains("href=\"https://example.com/activate?a=1&amp;b=&quot;2&quot;\"")
+                .contains("123456")
+                .doesNotContain("<script>");
+    }
+
+    @Test
+    void keepsNonAsciiTextLiteral() {
+        String html = renderer.render(EmailTemplateName.ACTIVATE_ACCOUNT, Map.of(
+                USERNAME, "Zoë Łukasz 山田",
+                CONFIRMATION_URL, "https://example.com",
+                ACTIVATION_CODE, "123456"));
+
+        assertThat(html).contains("<strong>Zoë Łukasz 山田</strong>");
+    }
+
+    @Test
+    void matchesThymeleafOutput() {
+        Map<String, String> variables = Map.of(
+                USERNAME, "O'Brien <b>&</b> Zoë",
+                CONFIRMATION_URL, "https://example.com/activate?token=a&b=\"c\"",
+                ACTIVATION_CODE, "<042>");
+        Context context = new Context();
+        context.setVariables(new HashMap<>(variables));
+
+        String expected = templateEngine.process(EmailTemplateName.ACTIVATE_ACCOUNT.getName(), context);
+
+        assertThat(renderer.render(EmailTemplateName.ACTIVATE_ACCOUNT, variables)).isEqualTo(expected);
+    }
+
+    @Test
+    void missingVariableRendersEmpty() {
+        String html = renderer.render(EmailTemplateName.ACTIVATE_ACCOUNT, Map.of(
+                CONFIRMATION_URL, "https://example.com",
+                ACTIVATION_CODE, "123456"));
+
+        assertThat(html).contains("<strong></strong>");
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.getmyuri.user_auth_service.service.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PooledJavaMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PooledJavaMailSender sender;
+    private SmtpConnectionPool pool;
+
+    @AfterEach
+    void closePool() {
+        if (sender != null) {
+            sender.destroy();
+        }
+    }
+
+    @Test
+    void reusesOneConnectionForSequentialSends() {
+        createSender(4, 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+        for (int i = 0; i < 3; i++) {
+            sender.send(message(i));
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        assertThat(opened()).isEqualTo(1);
+        assertThat(closed()).isZero();
+    }
+
+    @Test
+    void recyclesConnectionAfterMaxMessages() {
+        createSender(4, 2, Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+        for (int i = 0; i < 5; i++) {
+            sender.send(message(i));
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
+        assertThat(opened()).isEqualTo(3);
+        assertThat(closed()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsConnectionsIdleLongerThanMaxIdle() throws InterruptedException {
+        createSender(4, 100, Duration.ofMillis(100), Duration.ofSeconds(5));
+        sender.send(message(0));
+
+        Thread.sleep(250);
+        sender.evictIdleConnections();
+
+        assertThat(closed()).isEqualTo(1);
+        sender.send(message(1));
+        assertThat(opened()).isEqualTo(2);
+    }
+
+    @Test
+    void replacesConnectionBrokenByServerRestart() {
+        createSender(4, 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        sender.send(message(0));
+
+        greenMail.reset();
+        sender.send(message(1));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(opened()).isEqualTo(2);
+        assertThat(closed()).isEqualTo(1);
+    }
+
+    @Test
+    void failsWhenNoConnectionFreesUpWithinBorrowTimeout() {
+        createSender(1, 100, Duration.ofMinutes(1), Duration.ofMillis(100));
+        var held = pool.borrow();
+
+        assertThatThrownBy(() -> sender.send(message(0)))
+                .isInstanceOf(MailSendException.class)
+                .hasMessageContaining("No SMTP connection available");
+
+        pool.release(held, true);
+        sender.send(message(1));
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(opened()).isEqualTo(1);
+    }
+
+    private void createSender(int maxConnections, int maxMessagesPerConnection, Duration maxIdle,
+            Duration borrowTimeout) {
+        sender = new PooledJavaMailSender();
+        sender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        pool = new SmtpConnectionPool(sender::openTransport, maxConnections, maxMessagesPerConnection, maxIdle,
+                borrowTimeout, meterRegistry);
+        sender.setPool(pool);
+    }
+
+    private static SimpleMailMessage message(int i) {
+        var message = new SimpleMailMessage();
+        message.setFrom("noreply@getmyuri.com");
+        message.setTo("user" + i + "@example.com");
+        message.setSubject("Message " + i);
+        message.setText("Body " + i);
+        return message;
+    }
+
+    private double opened() {
+        return meterRegistry.counter("smtp.pool.connections.opened").count();
+    }
+
+    private double closed() {
+        return meterRegistry.counter("smtp.pool.connections.closed").count();
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.getmyuri.user_auth_service.service.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.LockedException;
+
+import com.getmyuri.user_auth_service.model.user.UserChangedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginActivityTrackerTest {
+
+    private static final int LOCK_THRESHOLD = 3;
+
+    private JdbcTemplate jdbcTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private LoginActivityTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        tracker = new LoginActivityTracker(jdbcTemplate, eventPublisher, new SimpleMeterRegistry(),
+                LOCK_THRESHOLD, 15, 100);
+    }
+
+    @Test
+    void flushWritesOneBatchRowPerUser() {
+        tracker.recordFailure("Alice@Example.com");
+        tracker.recordFailure("alice@example.com");
+        tracker.recordSuccess("bob@example.com");
+
+        tracker.flush();
+
+        List<Object[]> batch = captureBatch();
+        assertThat(batch).hasSize(2);
+        Object[] alice = row(batch, "alice@example.com");
+        assertThat(alice[0]).isNull();
+        assertThat(alice[1]).isEqualTo(false);
+        assertThat(alice[2]).isEqualTo(2);
+        assertThat(alice[3]).isEqualTo(LOCK_THRESHOLD);
+        Object[] bob = row(batch, "bob@example.com");
+        assertThat(bob[0]).isNotNull();
+        assertThat(bob[1]).isEqualTo(true);
+        assertThat(bob[2]).isEqualTo(0);
+        // Only users with new failures may have a changed lock state.
+        verify(eventPublisher, times(1)).publishEvent(any(UserChangedEvent.class));
+    }
+
+    @Test
+    void flushWithNothingPendingSkipsTheDatabase() {
+        tracker.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void successSupersedesEarlierFailures() {
+        tracker.recordFailure("alice@example.com");
+        tracker.recordFailure("alice@example.com");
+        tracker.recordSuccess("alice@example.com");
+
+        tracker.flush();
+
+        Object[] alice = row(captureBatch(), "alice@example.com");
+        assertThat(alice[1]).isEqualTo(true);
+        assertThat(alice[2]).isEqualTo(0);
+    }
+
+    @Test
+    void pendingFailuresLockOnceThresholdIsReached() {
+        tracker.recordFailure("alice@example.com");
+        tracker.recordFailure("alice@example.com");
+        assertThatCode(() -> tracker.checkNotLocked("alice@example.com")).doesNotThrowAnyException();
+
+        tracker.recordFailure("ALICE@example.com");
+
+        assertThatThrownBy(() -> tracker.checkNotLocked("alice@example.com"))
+                .isInstanceOf(LockedException.class);
+        assertThatCode(() -> tracker.checkNotLocked("bob@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void flushedFailuresNoLongerCountInMemory() {
+        for (int i = 0; i < LOCK_THRESHOLD; i++) {
+            tracker.recordFailure("alice@example.com");
+        }
+
+        tracker.flush();
+
+        // From here on the lock is enforced through locked_until in the database.
+        assertThatCode(() -> tracker.checkNotLocked("alice@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void failedFlushIsMergedIntoTheNextOne() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[] { 1 });
+        tracker.recordFailure("alice@example.com");
+        tracker.recordFailure("alice@example.com");
+
+        tracker.flush();
+        verify(eventPublisher, never()).publishEvent(any(UserChangedEvent.class));
+        tracker.recordFailure("alice@example.com");
+        assertThatThrownBy(() -> tracker.checkNotLocked("alice@example.com"))
+                .isInstanceOf(LockedException.class);
+        tracker.flush();
+
+        List<List<Object[]>> batches = captureBatches(2);
+        Object[] retried = row(batches.get(1), "alice@example.com");
+        assertThat(retried[2]).isEqualTo(LOCK_THRESHOLD);
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
+    }
+
+    @Test
+    void dropsNewUsersOnceMaxPendingIsReached() {
+        tracker = new LoginActivityTracker(jdbcTemplate, eventPublisher, new SimpleMeterRegistry(),
+                LOCK_THRESHOLD, 15, 1);
+        tracker.recordFailure("alice@example.com");
+        tracker.recordFailure("bob@example.com");
+        tracker.recordFailure("alice@example.com");
+
+        tracker.flush();
+
+        List<Object[]> batch = captureBatch();
+        assertThat(batch).hasSize(1);
+        assertThat(row(batch, "alice@example.com")[2]).isEqualTo(2);
+    }
+
+    private List<Object[]> captureBatch() {
+        return captureBatches(1).get(0);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private List<List<Object[]>> captureBatches(int flushes) {
+        ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(flushes)).batchUpdate(anyString(), captor.capture());
+        return (List) captor.getAllValues();
+    }
+
+    private static Object[] row(List<Object[]> batch, String email) {
+        return batch.stream()
+                .filter(args -> email.equals(args[args.length - 1]))
+                .findFirst()
+                .orElseThrow();
+    }
+
+}